@@ -7,6 +7,7 @@ import fj.data.List;
 import fj.data.Natural;
 import fj.data.NonEmptyList;
 import fj.data.Option;
+import fj.data.PersistentVector;
 import fj.data.Seq;
 import fj.data.Set;
 import fj.data.Stream;
@@ -26,6 +27,7 @@ import fj.data.vector.V8;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Iterator;
 
 import static fj.Function.compose;
 import static fj.Function.constant;
@@ -251,7 +253,7 @@ public final class Equal<A> {
   /**
    * An equal instance for the <code>Natural</code> type.
    */
-  public static final Equal<Natural> naturalEqual = bigintEqual.contramap(Natural::bigIntegerValue);
+  public static final Equal<Natural> naturalEqual = anyEqual();
 
   /**
    * An equal instance for the {@link String} type.
@@ -366,8 +368,32 @@ public final class Equal<A> {
     ));
   }
 
+  /**
+   * An equal instance for the {@link PersistentVector} type.
+   *
+   * @param ea Equality across the elements of the vector.
+   * @return An equal instance for the {@link PersistentVector} type.
+   */
+  public static <A> Equal<PersistentVector<A>> persistentVectorEqual(final Equal<A> ea) {
+    Definition<A> eaDef = ea.def;
+    return equalDef((v1, v2) -> {
+      if (v1 == v2)
+        return true;
+      if (v1.length() != v2.length())
+        return false;
+      final Iterator<A> i1 = v1.iterator();
+      final Iterator<A> i2 = v2.iterator();
+      while (i1.hasNext()) {
+        if (!eaDef.equal(i1.next(), i2.next()))
+          return false;
+      }
+      return true;
+    });
+  }
+
   public static <A> Equal<Seq<A>> seqEqual(final Equal<A> e) {
-    return streamEqual(e).contramap(Seq::toStream);
+    final Equal<Stream<A>> se = streamEqual(e);
+    return equalDef((s1, s2) -> s1 == s2 || s1.length() == s2.length() && se.eq(s1.toStream(), s2.toStream()));
   }
 
   /**
@@ -695,17 +721,32 @@ public final class Equal<A> {
   }
 
   /**
-   * Equal instance for sets.
+   * An equal instance for the {@link Set} type, which compares the sizes of the sets before iterating over their
+   * elements in order.
    *
-   * @param e Equality for the set elements.
-   * @return An equal instance for sets.
+   * @param e Equality across the elements of the sets.
+   * @return An equal instance for the {@link Set} type.
    */
   public static <A> Equal<Set<A>> setEqual(final Equal<A> e) {
-    return streamEqual(e).contramap(Set::toStream);
+    final Definition<A> eDef = e.def;
+    return equalDef((s1, s2) -> {
+      if (s1 == s2)
+        return true;
+      else if (s1.size() != s2.size())
+        return false;
+      final Iterator<A> i1 = s1.iterator();
+      final Iterator<A> i2 = s2.iterator();
+      while (i1.hasNext()) {
+        if (!eDef.equal(i1.next(), i2.next()))
+          return false;
+      }
+      return true;
+    });
   }
 
   public static <K, V> Equal<TreeMap<K, V>> treeMapEqual(Equal<K> k, Equal<V> v) {
-    return streamEqual(p2Equal(k, v)).contramap(TreeMap::toStream);
+    final Equal<Stream<P2<K, V>>> se = streamEqual(p2Equal(k, v));
+    return equalDef((m1, m2) -> m1 == m2 || m1.size() == m2.size() && se.eq(m1.toStream(), m2.toStream()));
   }
 
   public static <A, B> Equal<Writer<A, B>> writerEqual(Equal<A> eq1, Equal<B> eq2) {
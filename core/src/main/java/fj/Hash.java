@@ -118,7 +118,7 @@ public final class Hash<A> {
   /**
    * A hash instance for the {@link Natural} type.
    */
-  public static final Hash<Natural> naturalHash = bigintHash.contramap(Natural::bigIntegerValue);
+  public static final Hash<Natural> naturalHash = anyHash();
 
   /**
    * A hash instance for the <code>String</code> type.
@@ -214,12 +214,34 @@ public final class Hash<A> {
     return hash(o -> o.isNone() ? 0 : ha.hash(o.some()));
   }
 
+  /**
+   * A hash instance for the {@link PersistentVector} type.
+   *
+   * @param ha A hash for the elements of the vector.
+   * @return A hash instance for the {@link PersistentVector} type.
+   */
+  public static <A> Hash<PersistentVector<A>> persistentVectorHash(final Hash<A> ha) {
+    return hash(as -> {
+      final int p = 419;
+      int r = 239;
+      for (final A a : as)
+        r = p * r + ha.hash(a);
+      return r;
+    });
+  }
+
     public static <A> Hash<Seq<A>> seqHash(final Hash<A> h) {
         return hash(s -> streamHash(h).hash(s.toStream()));
     }
 
+    /**
+     * A hash instance for the {@link Set} type, which sums the hashes of the elements, as {@link Set#hashCode()} does.
+     *
+     * @param h A hash for the elements of the set.
+     * @return A hash instance for the {@link Set} type.
+     */
     public static <A> Hash<Set<A>> setHash(final Hash<A> h) {
-        return hash(s -> streamHash(h).hash(s.toStream()));
+        return hash(s -> s.foldMap(h::hash, Monoid.intAdditionMonoid));
     }
 
   /**
@@ -272,8 +294,23 @@ public final class Hash<A> {
     return streamHash(ha).contramap(Tree.flatten_());
   }
 
+    /**
+     * A hash instance for the {@link TreeMap} type, which sums the hashes of the key-value pairs, as
+     * {@link TreeMap#hashCode()} does.
+     *
+     * @param h A hash for the keys of the tree map.
+     * @param v A hash for the values of the tree map.
+     * @return A hash instance for the {@link TreeMap} type.
+     */
     public static <K, V> Hash<TreeMap<K, V>> treeMapHash(final Hash<K> h, final Hash<V> v) {
-        return hash(t -> streamHash(p2Hash(h, v)).hash(t.toStream()));
+        final Hash<P2<K, V>> hp = p2Hash(h, v);
+        return hash(t -> {
+            int r = 0;
+            for (final P2<K, V> p : t) {
+                r += hp.hash(p);
+            }
+            return r;
+        });
     }
 
   /**
@@ -604,7 +604,7 @@ public final class Ord<A> {
   /**
    * An order instance for the <code>Natural</code> type.
    */
-  public static final Ord<Natural> naturalOrd = bigintOrd.contramap(Natural.bigIntegerValue);
+  public static final Ord<Natural> naturalOrd = comparableOrd();
 
 
   /**
@@ -12,6 +12,7 @@ import fj.data.vector.V5;
 import fj.data.vector.V6;
 import fj.data.vector.V7;
 import fj.data.vector.V8;
+import fj.function.Effect2;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -26,14 +27,20 @@ import static fj.data.Stream.single;
 
 /**
  * Renders an object for display.
+ * <p/>
+ * A show has two equivalent renderings: a lazy stream of characters, returned by {@link #show(Object)}, and an
+ * appender into a {@link StringBuilder}, used by {@link #showS(Object)} and {@link #append(StringBuilder, Object)}.
+ * The built-in instances provide both, so that rendering to a string does not allocate a character stream.
  *
  * @version %build.number%
  */
 public final class Show<A> {
   private final F<A, Stream<Character>> f;
+  private final Effect2<StringBuilder, A> b;
 
-  private Show(final F<A, Stream<Character>> f) {
+  private Show(final F<A, Stream<Character>> f, final Effect2<StringBuilder, A> b) {
     this.f = f;
+    this.b = b;
   }
 
   /**
@@ -43,7 +50,7 @@ public final class Show<A> {
    * @return A new show.
    */
   public <B> Show<B> contramap(final F<B, A> f) {
-    return show(compose(this.f, f));
+    return show(compose(this.f, f), (sb, a) -> b.f(sb, f.f(a)));
   }
 
   /**
@@ -73,7 +80,19 @@ public final class Show<A> {
    * @return The display rendering of the given argument as a <code>String</code>.
    */
   public String showS(final A a) {
-    return Stream.asString(show(a));
+    return append(new StringBuilder(), a).toString();
+  }
+
+  /**
+   * Appends the display rendering of the given argument to the given string builder.
+   *
+   * @param sb The string builder to append to.
+   * @param a  The argument to display.
+   * @return The given string builder.
+   */
+  public StringBuilder append(final StringBuilder sb, final A a) {
+    b.f(sb, a);
+    return sb;
   }
 
   /**
@@ -143,7 +162,14 @@ public final class Show<A> {
    * @return A show instance.
    */
   public static <A> Show<A> show(final F<A, Stream<Character>> f) {
-    return new Show<>(f);
+    return new Show<>(f, (sb, a) -> {
+      for (Stream<Character> cs = f.f(a); cs.isNotEmpty(); cs = cs.tail()._1())
+        sb.append(cs.head().charValue());
+    });
+  }
+
+  private static <A> Show<A> show(final F<A, Stream<Character>> f, final Effect2<StringBuilder, A> b) {
+    return new Show<>(f, b);
   }
 
   /**
@@ -153,7 +179,22 @@ public final class Show<A> {
    * @return A show instance.
    */
   public static <A> Show<A> showS(final F<A, String> f) {
-    return show(a -> fromString(f.f(a)));
+    return show(a -> fromString(f.f(a)), (sb, a) -> sb.append(f.f(a)));
+  }
+
+  /**
+   * Returns a show instance using the given effect, which appends the display rendering of its second argument to
+   * the string builder given as its first argument. The stream rendering of the show is derived from it on demand.
+   *
+   * @param b The effect to use for the returned show instance.
+   * @return A show instance.
+   */
+  public static <A> Show<A> builderShow(final Effect2<StringBuilder, A> b) {
+    return show(a -> {
+      final StringBuilder sb = new StringBuilder();
+      b.f(sb, a);
+      return fromString(sb.toString());
+    }, b);
   }
 
   /**
@@ -162,7 +203,7 @@ public final class Show<A> {
    * @return A show instance that uses {@link Object#toString()} to perform the display rendering.
    */
   public static <A> Show<A> anyShow() {
-    return show(a -> fromString((a == null) ? "null" : a.toString()));
+    return showS(a -> (a == null) ? "null" : a.toString());
   }
 
   /**
@@ -239,7 +280,13 @@ public final class Show<A> {
   public static <A> Show<Option<A>> optionShow(final Show<A> sa) {
     return show(o -> o.isNone() ?
            fromString("None") :
-           fromString("Some(").append(sa.f.f(o.some())).append(single(')')));
+           fromString("Some(").append(sa.f.f(o.some())).append(single(')')),
+        (sb, o) -> {
+          if (o.isNone())
+            sb.append("None");
+          else
+            sa.append(sb.append("Some("), o.some()).append(')');
+        });
   }
 
   /**
@@ -252,7 +299,13 @@ public final class Show<A> {
   public static <A, B> Show<Either<A, B>> eitherShow(final Show<A> sa, final Show<B> sb) {
     return show(e -> e.isLeft() ?
            fromString("Left(").append(sa.f.f(e.left().value())).append(single(')')) :
-           fromString("Right(").append(sb.f.f(e.right().value())).append(single(')')));
+           fromString("Right(").append(sb.f.f(e.right().value())).append(single(')')),
+        (b, e) -> {
+          if (e.isLeft())
+            sa.append(b.append("Left("), e.left().value()).append(')');
+          else
+            sb.append(b.append("Right("), e.right().value()).append(')');
+        });
   }
 
   /**
@@ -265,7 +318,13 @@ public final class Show<A> {
   public static <A, B> Show<Validation<A, B>> validationShow(final Show<A> sa, final Show<B> sb) {
     return show(v -> v.isFail() ?
            fromString("Fail(").append(sa.f.f(v.fail())).append(single(')')) :
-           fromString("Success(").append(sb.f.f(v.success())).append(single(')')));
+           fromString("Success(").append(sb.f.f(v.success())).append(single(')')),
+        (b, v) -> {
+          if (v.isFail())
+            sa.append(b.append("Fail("), v.fail()).append(')');
+          else
+            sb.append(b.append("Success("), v.success()).append(')');
+        });
   }
 
   /**
@@ -275,7 +334,8 @@ public final class Show<A> {
    * @return A show instance for the {@link Stream} type.
    */
   public static <A> Show<List<A>> listShow(final Show<A> sa) {
-    return show(as -> streamShow(sa, "List(", ",", ")").show(as.toStream()));
+    return show(as -> streamShow(sa, "List(", ",", ")").show(as.toStream()),
+        (sb, as) -> appendAll(sb, sa, as, "List(", ",", ")"));
   }
 
   /**
@@ -301,49 +361,63 @@ public final class Show<A> {
         result = result.append(fromString(",")).append(streamShow(treeShow(sa), "", ",", "").f.f(a.subForest()._1()));
       }
       return fromString("Tree(").append(p(result)).append(fromString(")"));
+    }, (sb, a) -> {
+      sa.append(sb.append("Tree("), a.root());
+      final Stream<Tree<A>> subForest = a.subForest()._1();
+      if (!subForest.isEmpty())
+        appendAll(sb.append(','), treeShow(sa), subForest, "", ",", "");
+      sb.append(')');
     });
   }
 
   public static <V, A> Show<fj.data.fingertrees.Digit<V, A>> digitShow(final Show<V> sv, final Show<A> sa) {
-    return show(d -> {
-      String s = d.match(
-              o -> "One(" + o.measure() + " -> " + o.value() + ")",
-              two -> "Two(" + two.measure() + " -> " + v2Show(sa).showS(two.values()) + ")",
-              three -> "Three(" + three.measure() + " -> " + v3Show(sa).showS(three.values()) + ")",
-              four -> "Four(" + four.measure() + " -> " + v4Show(sa).showS(four.values()) + ")"
-      );
-      return Stream.fromString(s);
-    });
+    return builderShow((sb, d) -> d.match(
+        o -> sb.append("One(").append(o.measure()).append(" -> ").append(o.value()).append(')'),
+        two -> v2Show(sa).append(sb.append("Two(").append(two.measure()).append(" -> "), two.values()).append(')'),
+        three -> v3Show(sa).append(sb.append("Three(").append(three.measure()).append(" -> "), three.values())
+            .append(')'),
+        four -> v4Show(sa).append(sb.append("Four(").append(four.measure()).append(" -> "), four.values())
+            .append(')')
+    ));
   }
 
   public static <V, A> Show<fj.data.fingertrees.Node<V, A>> nodeShow(final Show<V> sv, final Show<A> sa) {
-    return show(n -> {
-      final String s = n.match(
-          n2 -> "Node2(" + n2.measure() + " -> " + v2Show(sa).showS(n2.toVector()) + ")",
-          n3 -> "Node3(" + n3.measure() + " -> " + v3Show(sa).showS(n3.toVector()) + ")");
-      return Stream.fromString(s);
-    });
+    return builderShow((sb, n) -> n.match(
+        n2 -> v2Show(sa).append(sb.append("Node2(").append(n2.measure()).append(" -> "), n2.toVector()).append(')'),
+        n3 -> v3Show(sa).append(sb.append("Node3(").append(n3.measure()).append(" -> "), n3.toVector()).append(')')
+    ));
   }
 
   public static <V, A> Show<FingerTree<V, A>> fingerTreeShow(final Show<V> sv, final Show<A> sa) {
-
-    return show(ft -> {
-      String sep = ", ";
-      String str = ft.match(e -> "Empty()",
-              s -> "Single(" + sv.showS(ft.measure()) + " -> " + sa.showS(s.value()) + ")",
-              d -> "Deep(" + d.measure() + " -> " +
-                      digitShow(sv, sa).showS(d.prefix()) + sep +
-                      fingerTreeShow(sv, nodeShow(sv, sa)).showS(d.middle()) + sep +
-                      digitShow(sv, sa).showS(d.suffix()) +
-                      ")"
+    return builderShow((sb, ft) -> {
+      final String sep = ", ";
+      ft.match(e -> sb.append("Empty()"),
+          s -> sa.append(sv.append(sb.append("Single("), ft.measure()).append(" -> "), s.value()).append(')'),
+          d -> {
+            final Show<fj.data.fingertrees.Digit<V, A>> ds = digitShow(sv, sa);
+            ds.append(sb.append("Deep(").append(d.measure()).append(" -> "), d.prefix()).append(sep);
+            fingerTreeShow(sv, nodeShow(sv, sa)).append(sb, d.middle()).append(sep);
+            return ds.append(sb, d.suffix()).append(')');
+          }
       );
-      return Stream.fromString(str);
     });
   }
 
 
+  /**
+   * A show instance for the {@link PersistentVector} type.
+   *
+   * @param sa Show for the elements of the vector.
+   * @return A show instance for the {@link PersistentVector} type.
+   */
+  public static <A> Show<PersistentVector<A>> persistentVectorShow(final Show<A> sa) {
+    return show(v -> streamShow(sa, "PersistentVector(", ",", ")").show(Stream.iterableStream(v)),
+        (sb, v) -> appendAll(sb, sa, v, "PersistentVector(", ",", ")"));
+  }
+
   public static <A> Show<Seq<A>> seqShow(final Show<A> sa) {
-    return show(s -> streamShow(sa, "Seq(", ",", ")").show(s.toStream()));
+    return show(s -> streamShow(sa, "Seq(", ",", ")").show(s.toStream()),
+        (sb, s) -> appendAll(sb, sa, s, "Seq(", ",", ")"));
   }
 
   /**
@@ -353,7 +427,8 @@ public final class Show<A> {
    * @return A show instance for the {@link Set} type.
    */
   public static <A> Show<Set<A>> setShow(final Show<A> sa) {
-    return show(s -> streamShow(sa, "Set(", ",", ")").show(s.toStream()));
+    return show(s -> streamShow(sa, "Set(", ",", ")").show(s.toStream()),
+        (sb, s) -> appendAll(sb, sa, s, "Set(", ",", ")"));
   }
 
   /**
@@ -367,7 +442,7 @@ public final class Show<A> {
     return show(tm -> {
       Stream<P2<K, V>> stream = Stream.iteratorStream(tm.iterator());
       return streamShow(p2MapShow(sk, sv), "TreeMap(", ",", ")").show(stream);
-    });
+    }, (sb, tm) -> appendAll(sb, p2MapShow(sk, sv), tm, "TreeMap(", ",", ")"));
   }
 
   /**
@@ -392,7 +467,8 @@ public final class Show<A> {
    * @return A show instance for the {@link P2 tuple-2} type.
    */
   public static <A, B> Show<P2<A, B>> p2Show(final Show<A> sa, final Show<B> sb, String start, String sep, String end) {
-    return show(p -> fromString(start).append(p(sa.show(p._1()))).append(fromString(sep)).append(sb.show(p._2())).append(fromString(end)));
+    return show(p -> fromString(start).append(p(sa.show(p._1()))).append(fromString(sep)).append(sb.show(p._2())).append(fromString(end)),
+        (b, p) -> sb.append(sa.append(b.append(start), p._1()).append(sep), p._2()).append(end));
   }
 
   /**
@@ -415,7 +491,7 @@ public final class Show<A> {
    * @return A show instance for the {@link Stream} type.
    */
   public static <A> Show<Stream<A>> streamShow(final Show<A> sa, String start, String sep, String end) {
-    return show(streamShow_(sa, start, sep, end));
+    return show(streamShow_(sa, start, sep, end), (sb, as) -> appendAll(sb, sa, as, start, sep, end));
   }
 
   /**
@@ -443,7 +519,20 @@ public final class Show<A> {
       }
 
       return b.append(fromString(")"));
-    });
+    }, (sb, as) -> appendAll(sb, sa, as, "Array(", ",", ")"));
+  }
+
+  private static <A> void appendAll(final StringBuilder sb, final Show<A> sa, final Iterable<A> as, final String start,
+                                    final String sep, final String end) {
+    sb.append(start);
+    boolean first = true;
+    for (final A a : as) {
+      if (!first)
+        sb.append(sep);
+      sa.b.f(sb, a);
+      first = false;
+    }
+    sb.append(end);
   }
 
   /**
@@ -470,7 +559,7 @@ public final class Show<A> {
   }
 
   public static <A> Show<P1<A>> p1ShowEager(final Show<A> sa) {
-    return show(p -> cons('(', p(sa.show(p._1()))).snoc(')'));
+    return show(p -> cons('(', p(sa.show(p._1()))).snoc(')'), (sb, p) -> sa.append(sb.append('('), p._1()).append(')'));
   }
 
   /**
@@ -494,7 +583,12 @@ public final class Show<A> {
    */
   public static <A, B, C> Show<P3<A, B, C>> p3Show(final Show<A> sa, final Show<B> sb, final Show<C> sc) {
     return show(p -> cons('(', p(sa.show(p._1()))).snoc(',').append(sb.show(p._2())).snoc(',')
-        .append(sc.show(p._3())).snoc(')'));
+        .append(sc.show(p._3())).snoc(')'),
+        (b, p) -> {
+          sa.append(b.append('('), p._1()).append(',');
+          sb.append(b, p._2()).append(',');
+          sc.append(b, p._3()).append(')');
+        });
   }
 
   /**
@@ -509,7 +603,13 @@ public final class Show<A> {
   public static <A, B, C, D> Show<P4<A, B, C, D>> p4Show(final Show<A> sa, final Show<B> sb,
                                                          final Show<C> sc, final Show<D> sd) {
     return show(p -> cons('(', p(sa.show(p._1()))).snoc(',').append(sb.show(p._2())).snoc(',')
-        .append(sc.show(p._3())).snoc(',').append(sd.show(p._4())).snoc(')'));
+        .append(sc.show(p._3())).snoc(',').append(sd.show(p._4())).snoc(')'),
+        (b, p) -> {
+          sa.append(b.append('('), p._1()).append(',');
+          sb.append(b, p._2()).append(',');
+          sc.append(b, p._3()).append(',');
+          sd.append(b, p._4()).append(')');
+        });
   }
 
   /**
@@ -525,7 +625,14 @@ public final class Show<A> {
   public static <A, B, C, D, E> Show<P5<A, B, C, D, E>> p5Show(final Show<A> sa, final Show<B> sb,
                                                                final Show<C> sc, final Show<D> sd, final Show<E> se) {
     return show(p -> cons('(', p(sa.show(p._1()))).snoc(',').append(sb.show(p._2())).snoc(',')
-        .append(sc.show(p._3())).snoc(',').append(sd.show(p._4())).snoc(',').append(se.show(p._5())).snoc(')'));
+        .append(sc.show(p._3())).snoc(',').append(sd.show(p._4())).snoc(',').append(se.show(p._5())).snoc(')'),
+        (b, p) -> {
+          sa.append(b.append('('), p._1()).append(',');
+          sb.append(b, p._2()).append(',');
+          sc.append(b, p._3()).append(',');
+          sd.append(b, p._4()).append(',');
+          se.append(b, p._5()).append(')');
+        });
   }
 
   /**
@@ -544,7 +651,15 @@ public final class Show<A> {
                                                                        final Show<E> se, final Show<F$> sf) {
     return show(p -> cons('(', p(sa.show(p._1()))).snoc(',').append(sb.show(p._2())).snoc(',')
         .append(sc.show(p._3())).snoc(',').append(sd.show(p._4())).snoc(',')
-        .append(se.show(p._5())).snoc(',').append(sf.show(p._6())).snoc(')'));
+        .append(se.show(p._5())).snoc(',').append(sf.show(p._6())).snoc(')'),
+        (b, p) -> {
+          sa.append(b.append('('), p._1()).append(',');
+          sb.append(b, p._2()).append(',');
+          sc.append(b, p._3()).append(',');
+          sd.append(b, p._4()).append(',');
+          se.append(b, p._5()).append(',');
+          sf.append(b, p._6()).append(')');
+        });
   }
 
   /**
@@ -565,7 +680,16 @@ public final class Show<A> {
                                                                              final Show<G> sg) {
     return show(p -> cons('(', p(sa.show(p._1()))).snoc(',').append(sb.show(p._2())).snoc(',')
         .append(sc.show(p._3())).snoc(',').append(sd.show(p._4())).snoc(',')
-        .append(se.show(p._5())).snoc(',').append(sf.show(p._6())).snoc(',').append(sg.show(p._7())).snoc(')'));
+        .append(se.show(p._5())).snoc(',').append(sf.show(p._6())).snoc(',').append(sg.show(p._7())).snoc(')'),
+        (b, p) -> {
+          sa.append(b.append('('), p._1()).append(',');
+          sb.append(b, p._2()).append(',');
+          sc.append(b, p._3()).append(',');
+          sd.append(b, p._4()).append(',');
+          se.append(b, p._5()).append(',');
+          sf.append(b, p._6()).append(',');
+          sg.append(b, p._7()).append(')');
+        });
   }
 
   /**
@@ -588,13 +712,28 @@ public final class Show<A> {
     return show(p -> cons('(', p(sa.show(p._1()))).snoc(',').append(sb.show(p._2())).snoc(',')
         .append(sc.show(p._3())).snoc(',').append(sd.show(p._4())).snoc(',')
         .append(se.show(p._5())).snoc(',').append(sf.show(p._6())).snoc(',')
-        .append(sg.show(p._7())).snoc(',').append(sh.show(p._8())).snoc(')'));
+        .append(sg.show(p._7())).snoc(',').append(sh.show(p._8())).snoc(')'),
+        (b, p) -> {
+          sa.append(b.append('('), p._1()).append(',');
+          sb.append(b, p._2()).append(',');
+          sc.append(b, p._3()).append(',');
+          sd.append(b, p._4()).append(',');
+          se.append(b, p._5()).append(',');
+          sf.append(b, p._6()).append(',');
+          sg.append(b, p._7()).append(',');
+          sh.append(b, p._8()).append(')');
+        });
   }
 
   public static <K, V> Show<PriorityQueue<K, V>> priorityQueueShow(Show<K> sk, Show<V> sv) {
     return show(pq -> {
       return streamShow(p2MapShow(sk, sv), "PriorityQueue(", ", ", ")").show(pq.toStream());
-    });
+    }, (sb, pq) -> appendAll(sb, p2MapShow(sk, sv), pq.toStream(), "PriorityQueue(", ", ", ")"));
+  }
+
+  public static <K, V> Show<PairingHeap<K, V>> pairingHeapShow(Show<K> sk, Show<V> sv) {
+    return show(pq -> streamShow(p2MapShow(sk, sv), "PairingHeap(", ", ", ")").show(pq.toStream()),
+        (sb, pq) -> appendAll(sb, p2MapShow(sk, sv), pq.toList(), "PairingHeap(", ", ", ")"));
   }
 
   /**
@@ -670,7 +809,7 @@ public final class Show<A> {
   /**
    * A show instance for natural numbers.
    */
-  public static final Show<Natural> naturalShow = bigintShow.contramap(Natural::bigIntegerValue);
+  public static final Show<Natural> naturalShow = anyShow();
 
   /**
    * A show instance for streams that splits into lines.
@@ -679,13 +818,15 @@ public final class Show<A> {
    * @return A show instance for streams that splits into lines.
    */
   public static <A> Show<Stream<A>> unlineShow(final Show<A> sa) {
-    return show(as -> join(as.map(sa.show_()).intersperse(fromString("\n"))));
+    return show(as -> join(as.map(sa.show_()).intersperse(fromString("\n"))),
+        (sb, as) -> appendAll(sb, sa, as, "", "\n", ""));
   }
 
   /**
    * A show instance for lazy strings.
    */
-  public static final Show<LazyString> lazyStringShow = show(LazyString::toStream);
+  public static final Show<LazyString> lazyStringShow = show(LazyString::toStream,
+      (sb, s) -> s.toStream().foreachDoEffect(c -> sb.append(c.charValue())));
 
   /**
    * A show instance for the empty heterogeneous Stream.
@@ -700,19 +841,19 @@ public final class Show<A> {
    * @return a show instance for heterogeneous Streams.
    */
   public static <E, L extends HList<L>> Show<HList.HCons<E, L>> HListShow(final Show<E> e, final Show<L> l) {
-    return show(c -> fromString("HList(").append(e.show(c.head())).append(l.show(c.tail())).append(fromString(")")));
+    return show(c -> fromString("HList(").append(e.show(c.head())).append(l.show(c.tail())).append(fromString(")")),
+        (sb, c) -> l.append(e.append(sb.append("HList("), c.head()), c.tail()).append(')'));
   }
 
   public static <K, V> Show<fj.data.hamt.Node<K, V>> hamtNodeShow(Show<K> sk, Show<V> sv) {
-    F<fj.data.hamt.Node<K, V>, String> f = n -> n.match(p -> p2Show(sk, sv).showS(p), h -> hamtShow(sk, sv).showS(h));
-    return Show.showS(f);
+    return Show.builderShow((sb, n) -> n.match(p -> p2Show(sk, sv).append(sb, p), h -> hamtShow(sk, sv).append(sb, h)));
   }
 
   public static <K, V> Show<HashArrayMappedTrie<K, V>> hamtShow(Show<K> sk, Show<V> sv) {
-    return Show.showS(hamt ->
-      "HashArrayMappedTrie(" + Show.bitSetShow.showS(hamt.getBitSet()) +
-      ", " + Show.seqShow(Show.hamtNodeShow(sk, sv)).showS(hamt.getSeq()) + ")"
-    );
+    return Show.builderShow((sb, hamt) -> {
+      Show.bitSetShow.append(sb.append("HashArrayMappedTrie("), hamt.getBitSet()).append(", ");
+      Show.seqShow(Show.hamtNodeShow(sk, sv)).append(sb, hamt.getSeq()).append(')');
+    });
   }
 
   public static final Show<BitSet> bitSetShow = Show.showS(
@@ -3,6 +3,8 @@ package fj.control;
 import fj.*;
 import fj.data.Either;
 
+import java.util.Arrays;
+
 import static fj.Function.curry;
 import static fj.data.Either.left;
 import static fj.data.Either.right;
@@ -13,7 +15,7 @@ import static fj.data.Either.right;
  */
 public abstract class Trampoline<A> {
 
-  // A Normal Trampoline is either done or suspended, and is allowed to be a subcomputation of a Codense.
+  // A Normal Trampoline is either done or suspended.
   // This is the pointed functor part of the Trampoline monad.
   private abstract static class Normal<A> extends Trampoline<A> {
     public abstract <R> R foldNormal(final F<A, R> pure, final F<P1<Trampoline<A>>, R> k);
@@ -23,17 +25,19 @@ public abstract class Trampoline<A> {
     }
   }
 
-  // A Codense Trampoline delimits a subcomputation and tracks its current continuation. Subcomputations are only
-  // allowed to be Normal, so all of the continuations accumulate on the right.
+  // A Codense Trampoline delimits a subcomputation and tracks its current continuation. Binding a Codense nests it
+  // as the subcomputation of a new Codense, so a bind costs a single allocation. The nesting is unwound by `run`
+  // with an explicit continuation stack. `resume` instead re-associates every level of the nesting to the right before
+  // taking a single step.
   private static final class Codense<A> extends Trampoline<A> {
 
-    // The Normal subcomputation
-    private final Normal<Object> sub;
+    // The subcomputation
+    private final Trampoline<Object> sub;
 
     // The current continuation
     private final F<Object, Trampoline<A>> cont;
 
-    private Codense(final Normal<Object> t, final F<Object, Trampoline<A>> k) {
+    private Codense(final Trampoline<Object> t, final F<Object, Trampoline<A>> k) {
       sub = t;
       cont = k;
     }
@@ -43,21 +47,27 @@ public abstract class Trampoline<A> {
       return gs.f(this);
     }
 
-    // The monadic bind constructs a new Codense whose subcomputation is still `sub`, and Kleisli-composes the
-    // continuations.
     public <B> Trampoline<B> bind(final F<A, Trampoline<B>> f) {
-      return codense(sub, o -> suspend(P.lazy(() -> cont.f(o).bind(f))));
+      return codense(this, f);
     }
 
     // The resumption of a Codense is the resumption of its subcomputation. If that computation is done, its result
     // gets shifted into the continuation.
+    @SuppressWarnings("unchecked")
     public Either<P1<Trampoline<A>>, A> resume() {
-      return left(sub.resume().either(p -> p.map(ot ->
-          ot.fold(
-              o -> o.foldNormal(cont, t -> t._1().bind(cont)),
-              c -> codense(c.sub, o -> c.cont.f(o).bind(cont))
-          )
-      ), o -> P.lazy(() -> cont.f(o))));
+      Codense<A> c = this;
+      while (c.sub instanceof Codense) {
+        final Codense<Object> s = (Codense<Object>) c.sub;
+        final F<Object, Trampoline<A>> k = c.cont;
+        c = new Codense<>(s.sub, o -> s.cont.f(o).bind(k));
+      }
+      final F<Object, Trampoline<A>> k = c.cont;
+      if (c.sub instanceof Suspend) {
+        return left(((Suspend<Object>) c.sub).suspension.map(ot -> ot.bind(k)));
+      } else {
+        final Object o = ((Pure<Object>) c.sub).value;
+        return left(P.lazy(() -> k.f(o)));
+      }
     }
   }
 
@@ -105,8 +115,8 @@ public abstract class Trampoline<A> {
   }
 
   @SuppressWarnings("unchecked")
-  private static <A, B> Codense<B> codense(final Normal<A> a, final F<A, Trampoline<B>> k) {
-    return new Codense<>((Normal<Object>) a, (F<Object, Trampoline<B>>) k);
+  private static <A, B> Codense<B> codense(final Trampoline<A> a, final F<A, Trampoline<B>> k) {
+    return new Codense<>((Trampoline<Object>) a, (F<Object, Trampoline<B>>) k);
   }
 
   /**
@@ -192,20 +202,35 @@ public abstract class Trampoline<A> {
   public abstract Either<P1<Trampoline<A>>, A> resume();
 
   /**
-   * Runs this computation all the way to the end, in constant stack.
+   * Runs this computation all the way to the end, in constant stack. Pending continuations are kept on an
+   * explicit stack rather than being re-associated at every step, so running does not allocate beyond the
+   * trampolines built by the computation itself.
    *
    * @return The end result of this computation.
    */
-  @SuppressWarnings("LoopStatementThatDoesntLoop")
+  @SuppressWarnings("unchecked")
   public final A run() {
-    Trampoline<A> current = this;
+    Trampoline<Object> current = (Trampoline<Object>) this;
+    Object[] stack = new Object[16];
+    int size = 0;
     while (true) {
-      final Either<P1<Trampoline<A>>, A> x = current.resume();
-      for (final P1<Trampoline<A>> t : x.left()) {
-        current = t._1();
-      }
-      for (final A a : x.right()) {
-        return a;
+      if (current instanceof Codense) {
+        final Codense<Object> c = (Codense<Object>) current;
+        if (size == stack.length) {
+          stack = Arrays.copyOf(stack, size * 2);
+        }
+        stack[size++] = c.cont;
+        current = c.sub;
+      } else if (current instanceof Suspend) {
+        current = ((Suspend<Object>) current).suspension._1();
+      } else {
+        final Object a = ((Pure<Object>) current).value;
+        if (size == 0) {
+          return (A) a;
+        }
+        final F<Object, Trampoline<Object>> k = (F<Object, Trampoline<Object>>) stack[--size];
+        stack[size] = null;
+        current = k.f(a);
       }
     }
   }
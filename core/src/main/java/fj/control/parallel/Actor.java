@@ -33,50 +33,103 @@ public final class Actor<A> {
    * as they are sent.
    */
   public static <T> Actor<T> queueActor(final Strategy<Unit> s, final Effect1<T> ea) {
-    return actor(Strategy.seqStrategy(), new Effect1<T>() {
-
-      // Lock to ensure the actor only acts on one message at a time
-      final AtomicBoolean suspended = new AtomicBoolean(true);
-
-      // Queue to hold pending messages
-      final ConcurrentLinkedQueue<T> mbox = new ConcurrentLinkedQueue<>();
-
-      // Product so the actor can use its strategy (to act on messages in other threads,
-      // to handle exceptions, etc.)
-      final P1<Unit> processor = new P1<Unit>() {
-        @Override public Unit _1() {
-          // get next item from queue
-          T a = mbox.poll();
-          // if there is one, process it
-          if (a != null) {
-            ea.f(a);
-            // try again, in case there are more messages
-            s.par(this);
-          } else {
-            // clear the lock
-            suspended.set(true);
-            // work again, in case someone else queued up a message while we were holding the lock
-            work();
-          }
-          return Unit.unit();
+    return actor(Strategy.seqStrategy(), new Mailbox<>(s, null, ea));
+  }
+
+  /**
+   * A queue actor, as given by {@link #queueActor(Strategy, Effect1)}, that records its messages in the given metrics:
+   * when each one is sent, and when its processing starts and finishes. The queue depth of the metrics is the number
+   * of messages waiting in the mailbox. While the given metrics are disabled, sent messages are not recorded, and
+   * are queued as they are, without reading the clock.
+   */
+  public static <T> Actor<T> queueActor(final Strategy<Unit> s, final Metrics m, final Effect1<T> ea) {
+    return actor(Strategy.seqStrategy(), new Mailbox<>(s, m, ea));
+  }
+
+  // A message sent while the metrics of its queue actor were enabled, with the time it was sent
+  private static final class Timed<T> {
+    private final T message;
+    private final long submitted;
+
+    private Timed(final T message, final long submitted) {
+      this.message = message;
+      this.submitted = submitted;
+    }
+  }
+
+  // The effect of a queue actor, which queues up its messages and processes them one at a time
+  private static final class Mailbox<T> implements Effect1<T> {
+
+    private final Strategy<Unit> s;
+
+    // The metrics to record messages in, or null
+    private final Metrics m;
+
+    private final Effect1<T> ea;
+
+    // Lock to ensure the actor only acts on one message at a time
+    private final AtomicBoolean suspended = new AtomicBoolean(true);
+
+    // Queue to hold pending messages, which are wrapped in a Timed if they were sent while the metrics were enabled
+    private final ConcurrentLinkedQueue<Object> mbox = new ConcurrentLinkedQueue<>();
+
+    // Product so the actor can use its strategy (to act on messages in other threads,
+    // to handle exceptions, etc.)
+    private final P1<Unit> processor = new P1<Unit>() {
+      @Override public Unit _1() {
+        // get next item from queue
+        Object a = mbox.poll();
+        // if there is one, process it
+        if (a != null) {
+          process(a);
+          // try again, in case there are more messages
+          s.par(this);
+        } else {
+          // clear the lock
+          suspended.set(true);
+          // work again, in case someone else queued up a message while we were holding the lock
+          work();
         }
-      };
-      
-      // Effect's body -- queues up a message and tries to unsuspend the actor
-      @Override public void f(T a) {
-        mbox.offer(a);
-        work();
+        return Unit.unit();
       }
+    };
 
-      // If there are pending messages, use the strategy to run the processor
-      void work() {
-        if (!mbox.isEmpty() && suspended.compareAndSet(true, false)) {
-          s.par(processor);
+    private Mailbox(final Strategy<Unit> s, final Metrics m, final Effect1<T> ea) {
+      this.s = s;
+      this.m = m;
+      this.ea = ea;
+    }
+
+    // Effect's body -- queues up a message and tries to unsuspend the actor
+    @Override public void f(T a) {
+      final long submitted = m == null ? Metrics.UNTIMED : m.submit();
+      mbox.offer(submitted == Metrics.UNTIMED ? a : new Timed<>(a, submitted));
+      work();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void process(final Object a) {
+      if (a instanceof Timed) {
+        final Timed<T> t = (Timed<T>) a;
+        final long started = m.start(t.submitted);
+        try {
+          ea.f(t.message);
+        } finally {
+          m.finish(started);
         }
+      } else {
+        ea.f((T) a);
       }
-    });
+    }
+
+    // If there are pending messages, use the strategy to run the processor
+    private void work() {
+      if (!mbox.isEmpty() && suspended.compareAndSet(true, false)) {
+        s.par(processor);
+      }
+    }
   }
-  
+
   private Actor(final Strategy<Unit> s, final F<A, P1<Unit>> e) {
     this.s = s;
     f = a -> s.par(e.f(a));
@@ -13,6 +13,8 @@ import static fj.data.Option.none;
 import static fj.data.Option.some;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Monadic functions and conversion methods for java.util.concurrent.Callable.
@@ -259,6 +261,68 @@ public final class Callables {
     return Callables::fromOption;
   }
 
+  /**
+   * Calls the given Callable asynchronously with the given executor, returning a completable future that is
+   * completed with its result, or exceptionally with the exception or error it throws.
+   *
+   * @param a The callable to call asynchronously.
+   * @param e The executor with which to call the given callable.
+   * @return A completable future of the outcome of calling the given callable.
+   */
+  public static <A> CompletableFuture<A> async(final Callable<A> a, final Executor e) {
+    final CompletableFuture<A> f = new CompletableFuture<>();
+    e.execute(() -> {
+      try {
+        f.complete(a.call());
+      } catch (Throwable x) {
+        f.completeExceptionally(x);
+      }
+    });
+    return f;
+  }
+
+  /**
+   * Calls the given Callable asynchronously with the given executor, then calls the Callable that the given
+   * function returns for its result, without blocking a thread in between.
+   *
+   * @param a The callable to call asynchronously.
+   * @param f A function from the result of the given callable to the callable to call next.
+   * @param e The executor with which to call both callables.
+   * @return A completable future of the outcome of calling the callable returned by the given function.
+   */
+  public static <A, B> CompletableFuture<B> bindAsync(final Callable<A> a, final F<A, Callable<B>> f,
+                                                      final Executor e) {
+    return async(a, e).thenCompose(x -> async(f.f(x), e));
+  }
+
+  /**
+   * Calls the given callable and callable function concurrently with the given executor, and applies the
+   * function to the value once both have completed (applicative functor pattern).
+   *
+   * @param ca The callable to which to apply a function.
+   * @param cf The callable function to apply.
+   * @param e  The executor with which to call both callables.
+   * @return A completable future of the result of applying the callable function to the value of the callable.
+   */
+  public static <A, B> CompletableFuture<B> applyAsync(final Callable<A> ca, final Callable<F<A, B>> cf,
+                                                       final Executor e) {
+    return async(ca, e).thenCombine(async(cf, e), (a, f) -> f.f(a));
+  }
+
+  /**
+   * Calls every callable in the given list concurrently with the given executor, and collects their results in
+   * order. The returned future completes exceptionally if any of the callables throws.
+   *
+   * @param as The list of callables to call asynchronously.
+   * @param e  The executor with which to call the callables.
+   * @return A completable future of the list of results of the given callables.
+   */
+  public static <A> CompletableFuture<List<A>> sequenceAsync(final List<Callable<A>> as, final Executor e) {
+    final List<CompletableFuture<A>> fs = as.map(a -> async(a, e));
+    return CompletableFuture.allOf(fs.toJavaList().toArray(new CompletableFuture<?>[fs.length()]))
+        .thenApply(u -> fs.map(CompletableFuture::join));
+  }
+
   /**
    * Normalises the given Callable by calling it and wrapping the result in a new Callable.
    * If the given Callable throws an Exception, the resulting Callable will throw that same Exception.
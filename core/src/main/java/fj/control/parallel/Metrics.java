@@ -0,0 +1,325 @@
+package fj.control.parallel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the tasks run by an instrumented {@link Strategy} or {@link Actor}: how many were submitted, started and
+ * finished, how long each waited between submission and start (its queueing delay, or time in the mailbox for an
+ * actor) and how long it ran. Recording is lock-free, and the recorded values are read through a
+ * {@link #snapshot()}. A disabled instance records nothing, and tasks submitted while it is disabled are not timed.
+ *
+ * @see Strategy#instrumented(Metrics)
+ * @see Actor#queueActor(Strategy, Metrics, fj.function.Effect1)
+ */
+public final class Metrics {
+
+  static final long UNTIMED = Long.MIN_VALUE;
+
+  private volatile boolean enabled;
+  private final long created = System.nanoTime();
+  private final LongAdder submitted = new LongAdder();
+  private final LongAdder started = new LongAdder();
+  private final LongAdder finished = new LongAdder();
+  private final LongAdder busy = new LongAdder();
+  private final Recorder queueDelay = new Recorder();
+  private final Recorder executionTime = new Recorder();
+
+  private Metrics(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Creates an enabled metrics recorder.
+   *
+   * @return A new, enabled metrics recorder.
+   */
+  public static Metrics metrics() {
+    return new Metrics(true);
+  }
+
+  /**
+   * Creates a disabled metrics recorder, which records nothing until it is enabled.
+   *
+   * @return A new, disabled metrics recorder.
+   */
+  public static Metrics disabled() {
+    return new Metrics(false);
+  }
+
+  /**
+   * Starts recording tasks submitted from now on.
+   */
+  public void enable() {
+    enabled = true;
+  }
+
+  /**
+   * Stops recording tasks submitted from now on.
+   */
+  public void disable() {
+    enabled = false;
+  }
+
+  /**
+   * Returns <code>true</code> if this recorder records submitted tasks.
+   *
+   * @return <code>true</code> if this recorder records submitted tasks.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  long submit() {
+    if (!enabled)
+      return UNTIMED;
+    submitted.increment();
+    return System.nanoTime();
+  }
+
+  long start(final long submitTime) {
+    if (submitTime == UNTIMED)
+      return UNTIMED;
+    final long now = System.nanoTime();
+    started.increment();
+    queueDelay.record(now - submitTime);
+    return now;
+  }
+
+  void finish(final long startTime) {
+    if (startTime == UNTIMED)
+      return;
+    final long t = System.nanoTime() - startTime;
+    busy.add(t);
+    executionTime.record(t);
+    finished.increment();
+  }
+
+  /**
+   * Takes a snapshot of the values recorded so far. The snapshot is not atomic with respect to tasks being recorded
+   * concurrently, but each of its counters is consistent.
+   *
+   * @return A snapshot of the values recorded so far.
+   */
+  public Snapshot snapshot() {
+    final long f = finished.sum();
+    final long s = Math.max(started.sum(), f);
+    return new Snapshot(Math.max(submitted.sum(), s), s, f, busy.sum(), System.nanoTime() - created,
+        queueDelay.histogram(), executionTime.histogram());
+  }
+
+  /**
+   * The values recorded by a {@link Metrics} instance at some point in time.
+   */
+  public static final class Snapshot {
+    private final long submitted;
+    private final long started;
+    private final long finished;
+    private final long busyNanos;
+    private final long elapsedNanos;
+    private final Histogram queueDelay;
+    private final Histogram executionTime;
+
+    private Snapshot(final long submitted, final long started, final long finished, final long busyNanos,
+                     final long elapsedNanos, final Histogram queueDelay, final Histogram executionTime) {
+      this.submitted = submitted;
+      this.started = started;
+      this.finished = finished;
+      this.busyNanos = busyNanos;
+      this.elapsedNanos = elapsedNanos;
+      this.queueDelay = queueDelay;
+      this.executionTime = executionTime;
+    }
+
+    /**
+     * @return The number of tasks submitted.
+     */
+    public long submitted() {
+      return submitted;
+    }
+
+    /**
+     * @return The number of tasks started.
+     */
+    public long started() {
+      return started;
+    }
+
+    /**
+     * @return The number of tasks finished.
+     */
+    public long finished() {
+      return finished;
+    }
+
+    /**
+     * @return The number of tasks submitted but not started yet, the mailbox depth of an actor.
+     */
+    public long queueDepth() {
+      return submitted - started;
+    }
+
+    /**
+     * @return The number of tasks started but not finished yet.
+     */
+    public long inFlight() {
+      return started - finished;
+    }
+
+    /**
+     * @return The total time spent running finished tasks, in nanoseconds.
+     */
+    public long busyNanos() {
+      return busyNanos;
+    }
+
+    /**
+     * @return The time elapsed since the metrics recorder was created, in nanoseconds.
+     */
+    public long elapsedNanos() {
+      return elapsedNanos;
+    }
+
+    /**
+     * @return The average number of tasks running at once since the metrics recorder was created.
+     */
+    public double utilization() {
+      return elapsedNanos == 0 ? 0 : (double) busyNanos / elapsedNanos;
+    }
+
+    /**
+     * @return The distribution of the times between submitting and starting tasks, in nanoseconds.
+     */
+    public Histogram queueDelay() {
+      return queueDelay;
+    }
+
+    /**
+     * @return The distribution of the times spent running tasks, in nanoseconds.
+     */
+    public Histogram executionTime() {
+      return executionTime;
+    }
+
+    @Override
+    public String toString() {
+      return "Snapshot(submitted: " + submitted + ", started: " + started + ", finished: " + finished +
+          ", utilization: " + utilization() + ", queueDelay: " + queueDelay + ", executionTime: " + executionTime + ")";
+    }
+  }
+
+  /**
+   * A distribution of recorded nanosecond durations. Durations are counted in logarithmic buckets, each power of two
+   * being split into {@link #SUB_BUCKETS} linear sub-buckets, so percentiles are accurate to within one part in
+   * eight of the value.
+   */
+  public static final class Histogram {
+    /**
+     * The number of linear sub-buckets per power of two.
+     */
+    public static final int SUB_BUCKETS = 8;
+    private static final int SUB_BITS = 3;
+    static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    private final long[] counts;
+    private final long count;
+    private final long max;
+    private final long sum;
+
+    private Histogram(final long[] counts, final long count, final long max, final long sum) {
+      this.counts = counts;
+      this.count = count;
+      this.max = max;
+      this.sum = sum;
+    }
+
+    static int index(final long v) {
+      if (v < SUB_BUCKETS)
+        return (int) v;
+      final int e = 63 - Long.numberOfLeadingZeros(v);
+      return (e - SUB_BITS + 1) * SUB_BUCKETS + (int) ((v >>> (e - SUB_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    static long highest(final int i) {
+      if (i < SUB_BUCKETS)
+        return i;
+      final int shift = i / SUB_BUCKETS - 1;
+      return ((long) (SUB_BUCKETS + i % SUB_BUCKETS + 1) << shift) - 1;
+    }
+
+    /**
+     * @return The number of recorded durations.
+     */
+    public long count() {
+      return count;
+    }
+
+    /**
+     * @return The largest recorded duration, or zero if none was recorded.
+     */
+    public long max() {
+      return max;
+    }
+
+    /**
+     * @return The mean of the recorded durations, or zero if none was recorded.
+     */
+    public double mean() {
+      return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of the recorded durations, accurate to the bucket holding it.
+     *
+     * @param p A percentile, between 0 and 100.
+     * @return The highest duration in the bucket holding the given percentile, or zero if none was recorded.
+     */
+    public long percentile(final double p) {
+      if (count == 0)
+        return 0;
+      final long rank = Math.max(1, (long) Math.ceil(p / 100 * count));
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank)
+          return Math.min(highest(i), max);
+      }
+      return max;
+    }
+
+    @Override
+    public String toString() {
+      return "Histogram(count: " + count + ", mean: " + mean() + ", p50: " + percentile(50) + ", p99: " +
+          percentile(99) + ", max: " + max + ")";
+    }
+  }
+
+  private static final class Recorder {
+    private final AtomicLongArray counts = new AtomicLongArray(Histogram.BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(final long nanos) {
+      final long v = Math.max(0, nanos);
+      counts.incrementAndGet(Histogram.index(v));
+      count.increment();
+      sum.add(v);
+      long m = max.get();
+      while (v > m && !max.compareAndSet(m, v))
+        m = max.get();
+    }
+
+    Histogram histogram() {
+      final long[] cs = new long[Histogram.BUCKETS];
+      long n = 0;
+      for (int i = 0; i < cs.length; i++) {
+        cs[i] = counts.get(i);
+        n += cs[i];
+      }
+      return new Histogram(cs, n, max.get(), sum.sum());
+    }
+  }
+
+}
@@ -11,12 +11,16 @@ import fj.data.IterableW;
 import fj.data.List;
 import fj.data.NonEmptyList;
 import fj.data.Option;
+import fj.data.Seq;
 import fj.data.Stream;
 import fj.data.Tree;
 import fj.data.TreeZipper;
 import fj.data.Zipper;
 import fj.function.Effect1;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static fj.Bottom.error;
 import static fj.data.Option.some;
 import static fj.data.Stream.iterableStream;
 
@@ -24,6 +28,11 @@ import static fj.data.Stream.iterableStream;
  * A module of higher-order concurrency features.
  */
 public final class ParModule {
+  /**
+   * The default number of elements mapped and summed sequentially by the chunked parallel folds.
+   */
+  public static final int DEFAULT_GRAIN_SIZE = 1024;
+
   private final Strategy<Unit> strategy;
 
   private ParModule(final Strategy<Unit> strategy) {
@@ -233,6 +242,36 @@ public final class ParModule {
     return sequence(a.map(f));
   }
 
+  /**
+   * Takes a Promise-valued function and applies it to each element in the given List, keeping at most
+   * <code>maxInFlight</code> of the resulting promises unkept at any time. The function is applied to the
+   * next element as soon as one of the pending promises is kept, so the window slides over the list
+   * without blocking a thread. The results are in the order of the given list.
+   *
+   * @param as          A list to map across.
+   * @param f           A promise-valued function to map across the list.
+   * @param maxInFlight The maximum number of pending promises.
+   * @return A Promise of a new list with the given function applied to each element.
+   */
+  public <A, B> Promise<List<B>> mapM(final List<A> as, final F<A, Promise<B>> f, final int maxInFlight) {
+    return new Window<>(as.toArray(), f, maxInFlight, true).run();
+  }
+
+  /**
+   * Takes a Promise-valued function and applies it to each element in the given List, keeping at most
+   * <code>maxInFlight</code> of the resulting promises unkept at any time, like
+   * {@link #mapM(List, F, int)}. The results are in the order in which the promises were kept, so a slow
+   * element does not hold back the results after it.
+   *
+   * @param as          A list to map across.
+   * @param f           A promise-valued function to map across the list.
+   * @param maxInFlight The maximum number of pending promises.
+   * @return A Promise of a list of the results of applying the given function to each element, in completion order.
+   */
+  public <A, B> Promise<List<B>> mapMUnordered(final List<A> as, final F<A, Promise<B>> f, final int maxInFlight) {
+    return new Window<>(as.toArray(), f, maxInFlight, false).run();
+  }
+
   /**
    * Maps across a list in parallel.
    *
@@ -284,6 +323,43 @@ public final class ParModule {
     return curry((abf, stream) -> parMap(stream, abf));
   }
 
+  /**
+   * Maps across a Stream in parallel as a pipeline stage, yielding a lazy Stream of the results in order.
+   * At most <code>lookAhead</code> elements of the given stream are forced and evaluated ahead of the
+   * consumer, and each element forced from the result starts the evaluation of the next one, so the given
+   * stream may be infinite, for example the lines of a file that is still being written. Unlike
+   * {@link #parMap(Stream, F)}, the consumer can start on the first result while the rest are computed.
+   * <p/>
+   * Constructing the result blocks until its first element is available, and forcing each tail blocks until
+   * the next element is available.
+   *
+   * @param as        A Stream to map across in parallel.
+   * @param f         A function to map across the given Stream.
+   * @param lookAhead The maximum number of elements evaluated ahead of the consumer.
+   * @return A lazy Stream of the results of applying the given function to each element.
+   */
+  public <A, B> Stream<B> pipeline(final Stream<A> as, final F<A, B> f, final int lookAhead) {
+    if (lookAhead < 1)
+      throw error("Look-ahead must be positive: " + lookAhead);
+    return pipeline(Seq.empty(), as, promise(f), lookAhead);
+  }
+
+  private <A, B> Stream<B> pipeline(final Seq<Promise<B>> window, final Stream<A> as, final F<A, Promise<B>> f,
+                                    final int lookAhead) {
+    Seq<Promise<B>> w = window;
+    Stream<A> rest = as;
+    while (w.length() < lookAhead && rest.isNotEmpty()) {
+      w = w.snoc(f.f(rest.head()));
+      rest = rest.tail()._1();
+    }
+    if (w.isEmpty())
+      return Stream.nil();
+    final Seq<Promise<B>> next = w.tail();
+    final Stream<A> remaining = rest;
+    // The tail is memoised strongly, since recomputing it would evaluate elements again.
+    return Stream.cons(w.head().claim(), P.hardMemo(() -> pipeline(next, remaining, f, lookAhead)));
+  }
+
   /**
    * Maps across an Iterable in parallel.
    *
@@ -305,6 +381,47 @@ public final class ParModule {
     return curry((abf, iterable) -> parMap(iterable, abf));
   }
 
+  /**
+   * Maps across a list in parallel, evaluating at most <code>maxInFlight</code> elements at any time.
+   *
+   * @param as          A list to map across in parallel.
+   * @param f           A function to map across the given list.
+   * @param maxInFlight The maximum number of elements evaluated concurrently.
+   * @return A Promise of a new list with the given function applied to each element.
+   * @see #mapM(List, F, int)
+   */
+  public <A, B> Promise<List<B>> parMap(final List<A> as, final F<A, B> f, final int maxInFlight) {
+    return mapM(as, promise(f), maxInFlight);
+  }
+
+  /**
+   * Maps across an Iterable in parallel, evaluating at most <code>maxInFlight</code> elements at any time.
+   *
+   * @param as          An Iterable to map across in parallel.
+   * @param f           A function to map across the given Iterable.
+   * @param maxInFlight The maximum number of elements evaluated concurrently.
+   * @return A Promise of a new Iterable with the given function applied to each element.
+   * @see #mapM(List, F, int)
+   */
+  public <A, B> Promise<Iterable<B>> parMap(final Iterable<A> as, final F<A, B> f, final int maxInFlight) {
+    return parMap(List.iterableList(as), f, maxInFlight)
+        .fmap(Function.vary(Function.identity()));
+  }
+
+  /**
+   * Maps across a list in parallel, evaluating at most <code>maxInFlight</code> elements at any time and
+   * yielding the results in the order in which they were computed.
+   *
+   * @param as          A list to map across in parallel.
+   * @param f           A function to map across the given list.
+   * @param maxInFlight The maximum number of elements evaluated concurrently.
+   * @return A Promise of a list of the results of applying the given function to each element, in completion order.
+   * @see #mapMUnordered(List, F, int)
+   */
+  public <A, B> Promise<List<B>> parMapUnordered(final List<A> as, final F<A, B> f, final int maxInFlight) {
+    return mapMUnordered(as, promise(f), maxInFlight);
+  }
+
   /**
    * Maps across an Array in parallel.
    *
@@ -470,15 +587,44 @@ public final class ParModule {
 
   /**
    * Maps with the given function across the given stream in parallel, while folding with
-   * the given monoid.
+   * the given monoid. The stream is split into chunks of {@link #DEFAULT_GRAIN_SIZE} elements.
    *
    * @param as     A stream to map over and reduce.
    * @param map    The function to map over the given stream.
    * @param reduce The monoid with which to sum the results.
    * @return A promise of a result of mapping and folding in parallel.
+   * @see #parFoldMap(Stream, F, Monoid, int)
    */
   public <A, B> Promise<B> parFoldMap(final Stream<A> as, final F<A, B> map, final Monoid<B> reduce) {
-    return as.isEmpty() ? promise(p(reduce.zero())) : as.map(promise(map)).foldLeft1(liftM2(reduce.sum()));
+    return parFoldMap(as, map, reduce, DEFAULT_GRAIN_SIZE);
+  }
+
+  /**
+   * Maps with the given function across the given stream in parallel, while folding with
+   * the given monoid. The stream is split into chunks of <code>grainSize</code> elements, each of which is
+   * mapped and summed sequentially in its own promise. The sums of the chunks are then combined concurrently
+   * as a balanced binary tree, so the reduction has logarithmic depth.
+   *
+   * @param as        A stream to map over and reduce.
+   * @param map       The function to map over the given stream.
+   * @param reduce    The monoid with which to sum the results.
+   * @param grainSize The number of elements mapped and summed sequentially.
+   * @return A promise of a result of mapping and folding in parallel.
+   */
+  public <A, B> Promise<B> parFoldMap(final Stream<A> as, final F<A, B> map, final Monoid<B> reduce,
+                                      final int grainSize) {
+    if (as.isEmpty())
+      return promise(p(reduce.zero()));
+    final Array<Promise<B>> sums = as.toList().partition(grainSize).toArray().map(chunk ->
+        promise(P.lazy(() -> chunk.foldLeft((b, a) -> reduce.sum(b, map.f(a)), reduce.zero()))));
+    return sumTree(sums, 0, sums.length(), reduce);
+  }
+
+  private <B> Promise<B> sumTree(final Array<Promise<B>> ps, final int from, final int to, final Monoid<B> reduce) {
+    if (to - from == 1)
+      return ps.get(from);
+    final int mid = (from + to) >>> 1;
+    return liftM2(reduce.sum()).f(sumTree(ps, from, mid, reduce)).f(sumTree(ps, mid, to, reduce));
   }
 
   /**
@@ -581,4 +727,63 @@ public final class ParModule {
     return parMap(as.tails(), f);
   }
 
+  /**
+   * A sliding window over an array of elements, applying a promise-valued function to the next element
+   * whenever one of at most <code>maxInFlight</code> pending promises is kept.
+   */
+  private final class Window<A, B> {
+    private final Array<A> as;
+    private final F<A, Promise<B>> f;
+    private final boolean ordered;
+    private final int initial;
+    private final Object[] bs;
+    private final Promise<List<B>> result = Promise.unfulfilled(strategy);
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger slot = new AtomicInteger();
+    private final AtomicInteger done = new AtomicInteger();
+    private final AtomicInteger requested = new AtomicInteger();
+
+    Window(final Array<A> as, final F<A, Promise<B>> f, final int maxInFlight, final boolean ordered) {
+      if (maxInFlight < 1)
+        throw error("Maximum number of promises in flight must be positive: " + maxInFlight);
+      this.as = as;
+      this.f = f;
+      this.ordered = ordered;
+      initial = Math.min(maxInFlight, as.length());
+      bs = new Object[as.length()];
+    }
+
+    Promise<List<B>> run() {
+      if (as.isEmpty())
+        result.fulfil(List.nil());
+      for (int i = 0; i < initial; i++)
+        request();
+      return result;
+    }
+
+    // Launches the next element, unless another caller is already launching, in which case that caller
+    // launches it too. A promise kept synchronously thus continues the loop instead of growing the stack.
+    private void request() {
+      if (requested.getAndIncrement() == 0) {
+        do {
+          final int i = next.getAndIncrement();
+          if (i < as.length())
+            f.f(as.get(i)).to(Actor.actor(strategy, (Effect1<B>) b -> kept(i, b)));
+        } while (requested.decrementAndGet() != 0);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void kept(final int i, final B b) {
+      bs[ordered ? i : slot.getAndIncrement()] = b;
+      if (done.incrementAndGet() == bs.length) {
+        List<B> r = List.nil();
+        for (int j = bs.length - 1; j >= 0; j--)
+          r = r.cons((B) bs[j]);
+        result.fulfil(r);
+      } else
+        request();
+    }
+  }
+
 }
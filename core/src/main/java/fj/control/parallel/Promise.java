@@ -19,7 +19,13 @@ import fj.function.Effect1;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -65,6 +71,21 @@ public final class Promise<A> {
     return new Promise<>(s, q);
   }
 
+  /**
+   * Creates a promise that is kept by a later call to {@link #fulfil(Object)}.
+   */
+  static <A> Promise<A> unfulfilled(final Strategy<Unit> s) {
+    return mkPromise(s);
+  }
+
+  /**
+   * Keeps this promise with the given value. Must be called at most once, and only on a promise
+   * created by {@link #unfulfilled(Strategy)}.
+   */
+  void fulfil(final A a) {
+    actor.act(p(Either.left(p(a)), this));
+  }
+
   /**
    * Promises to provide the value of the given 1-product, in the future.
    * Represents the unit function for promises.
@@ -100,6 +121,80 @@ public final class Promise<A> {
     return promise(s, P.lazy(() -> normalise(a)));
   }
 
+  /**
+   * Provides a promise of the outcome of the given completion stage, kept by a callback when the stage completes,
+   * without blocking a thread while waiting for it.
+   *
+   * @param s The strategy with which to fulfil the promise.
+   * @param f The completion stage whose outcome to promise.
+   * @return A promise of a Callable that returns the value of the given stage, or throws the exception it completed
+   *         with.
+   */
+  public static <A> Promise<Callable<A>> fromCompletionStage(final Strategy<Unit> s, final CompletionStage<A> f) {
+    final Promise<Callable<A>> p = mkPromise(s);
+    f.whenComplete((a, t) -> p.fulfil(t == null ? Callables.callable(a) : Callables.callable(exception(t))));
+    return p;
+  }
+
+  /**
+   * Provides a promise of the outcome of the given future. If the future is a {@link CompletionStage}, such as a
+   * {@link CompletableFuture}, the promise is kept by a callback as with
+   * {@link #fromCompletionStage(Strategy, CompletionStage)}. Otherwise, waiting for the future blocks a thread of
+   * the given strategy.
+   *
+   * @param s The strategy with which to fulfil the promise.
+   * @param f The future whose outcome to promise.
+   * @return A promise of a Callable that returns the value of the given future, or throws the exception it failed
+   *         with.
+   */
+  @SuppressWarnings("unchecked")
+  public static <A> Promise<Callable<A>> fromFuture(final Strategy<Unit> s, final Future<A> f) {
+    return f instanceof CompletionStage ? fromCompletionStage(s, (CompletionStage<A>) f) :
+        promise(s, () -> {
+          try {
+            return f.get();
+          } catch (final ExecutionException e) {
+            throw exception(e.getCause());
+          }
+        });
+  }
+
+  private static Exception exception(final Throwable t) {
+    final Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    return cause instanceof Exception ? (Exception) cause : new ExecutionException(cause);
+  }
+
+  /**
+   * Returns a completable future that is completed with the value of this promise when it is kept, without
+   * blocking a thread while waiting for it.
+   *
+   * @return A completable future of the value of this promise.
+   */
+  public CompletableFuture<A> toCompletableFuture() {
+    final CompletableFuture<A> f = new CompletableFuture<>();
+    to(actor(Strategy.seqStrategy(), (Effect1<A>) f::complete));
+    return f;
+  }
+
+  /**
+   * Returns a completable future that is completed with the outcome of the Callable promised by the given
+   * promise, when it is kept: normally with its value, or exceptionally with the exception it throws.
+   *
+   * @param p A promise of a Callable, such as one returned by {@link #promise(Strategy, Callable)}.
+   * @return A completable future of the outcome of the promised Callable.
+   */
+  public static <A> CompletableFuture<A> toCompletableFuture(final Promise<Callable<A>> p) {
+    final CompletableFuture<A> f = new CompletableFuture<>();
+    p.to(actor(Strategy.seqStrategy(), (Effect1<Callable<A>>) c -> {
+      try {
+        f.complete(c.call());
+      } catch (final Exception e) {
+        f.completeExceptionally(e);
+      }
+    }));
+    return f;
+  }
+
   /**
    * Transforms any function so that it returns a promise of a value instead of an actual value.
    * Represents the Kleisli arrow for the Promise monad.
@@ -315,12 +410,23 @@ public final class Promise<A> {
 
   /**
    * Waits if necessary for the computation to complete, and then retrieves its result.
+   * When called from a ForkJoinPool worker thread, the pool is notified that the thread may block,
+   * so that it can activate a spare thread to maintain its parallelism.
    *
    * @return The promised value.
    */
   public A claim() {
     try {
-      l.await();
+      ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+        public boolean block() throws InterruptedException {
+          l.await();
+          return true;
+        }
+
+        public boolean isReleasable() {
+          return l.getCount() == 0;
+        }
+      });
     } catch (InterruptedException e) {
       throw new Error(e);
     }
@@ -0,0 +1,293 @@
+package fj.control.parallel;
+
+import fj.F;
+import fj.P;
+import fj.P1;
+import fj.Unit;
+import fj.data.List;
+import fj.data.Option;
+import fj.function.Effect1;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static fj.Bottom.error;
+import static fj.data.Option.none;
+import static fj.data.Option.some;
+
+/**
+ * A scope owning a group of concurrent tasks: the promises and actor messages started through it. A scope
+ * tracks how many of its tasks are in flight, so that {@link #awaitAll()} can wait for all of them, including
+ * messages still queued in its actors' mailboxes. The first task to fail cancels the scope, and so does reaching
+ * its deadline or calling {@link #cancel()}.
+ * <p/>
+ * Cancellation is cooperative: tasks that have not started when the scope is cancelled are skipped, and running
+ * tasks may poll {@link #isCancelled()}. The promises of skipped or failed tasks are never kept, so their outcome
+ * is observed through the scope rather than by claiming them.
+ * <p/>
+ * A scope is closed with {@link #close()}, which cancels the remaining tasks and waits for the running ones, so
+ * no task outlives a try-with-resources block around its scope.
+ */
+public final class Scope implements AutoCloseable {
+
+  private final Strategy<Unit> s;
+  private final boolean timed;
+  private final long deadline;
+
+  private final AtomicInteger pending = new AtomicInteger();
+  private volatile boolean cancelled;
+  private volatile Option<Throwable> failure = none();
+
+  private Scope(final Strategy<Unit> s, final boolean timed, final long deadline) {
+    this.s = s;
+    this.timed = timed;
+    this.deadline = deadline;
+  }
+
+  /**
+   * Creates a scope without a deadline.
+   *
+   * @param s The strategy with which to run the tasks of the scope.
+   * @return A new scope running its tasks with the given strategy.
+   */
+  public static Scope scope(final Strategy<Unit> s) {
+    return new Scope(s, false, 0);
+  }
+
+  /**
+   * Creates a scope which is cancelled when the given time has elapsed.
+   *
+   * @param s       The strategy with which to run the tasks of the scope.
+   * @param timeout The time after which the scope is cancelled.
+   * @param unit    The unit of the given time.
+   * @return A new scope running its tasks with the given strategy, until the given deadline.
+   */
+  public static Scope scope(final Strategy<Unit> s, final long timeout, final TimeUnit unit) {
+    return new Scope(s, true, System.nanoTime() + unit.toNanos(timeout));
+  }
+
+  /**
+   * Evaluates the given product concurrently as a task of this scope.
+   *
+   * @param p A product to evaluate concurrently.
+   * @return A Promise of the value of the given product, which is never kept if the task is skipped or fails.
+   */
+  public <A> Promise<A> promise(final P1<A> p) {
+    final Promise<A> r = Promise.unfulfilled(s);
+    start(P.lazy(() -> {
+      r.fulfil(p._1());
+      return Unit.unit();
+    }));
+    return r;
+  }
+
+  /**
+   * Promotes the given function to a concurrent function whose applications are tasks of this scope.
+   *
+   * @param f A function to promote to a concurrent function.
+   * @return A function that is applied concurrently as a task of this scope when given an argument.
+   */
+  public <A, B> F<A, Promise<B>> promise(final F<A, B> f) {
+    return a -> promise(P.lazy(() -> f.f(a)));
+  }
+
+  /**
+   * Creates an actor that processes one message at a time, each message being a task of this scope from the
+   * moment it is sent until it has been processed.
+   *
+   * @param e The effect that the actor should have on its messages.
+   * @return A concurrent actor whose messages are tasks of this scope.
+   */
+  public <A> Actor<A> actor(final Effect1<A> e) {
+    final Actor<A> q = Actor.queueActor(s, a -> {
+      try {
+        if (!expired())
+          e.f(a);
+      } catch (final Throwable t) {
+        fail(t);
+      } finally {
+        exit();
+      }
+    });
+    return Actor.actor(Strategy.seqStrategy(), (Effect1<A>) a -> {
+      enter();
+      q.act(a);
+    });
+  }
+
+  /**
+   * Returns <code>true</code> if this scope has been cancelled, by a failure, its deadline or a call to
+   * {@link #cancel()}.
+   *
+   * @return <code>true</code> if this scope has been cancelled.
+   */
+  public boolean isCancelled() {
+    return cancelled || (timed && System.nanoTime() - deadline >= 0);
+  }
+
+  /**
+   * Cancels this scope, so that its tasks which have not started yet are skipped.
+   */
+  public void cancel() {
+    cancelled = true;
+    synchronized (this) {
+      notifyAll();
+    }
+  }
+
+  /**
+   * Returns the first failure of a task of this scope, if any.
+   *
+   * @return The first failure of a task of this scope, or none if no task has failed.
+   */
+  public Option<Throwable> failure() {
+    return failure;
+  }
+
+  /**
+   * Returns the number of tasks of this scope which have not finished yet.
+   *
+   * @return The number of tasks of this scope which have not finished yet.
+   */
+  public int pending() {
+    return pending.get();
+  }
+
+  /**
+   * Waits until all tasks of this scope have finished. Fails if a task has failed, with that failure as the cause,
+   * or if the deadline of this scope passes first, in which case the scope is cancelled.
+   */
+  public void awaitAll() {
+    synchronized (this) {
+      while (pending.get() != 0 && failure.isNone())
+        waitUntilDeadline();
+    }
+    if (failure.isSome())
+      throw new Error("Task failed in scope", failure.some());
+  }
+
+  /**
+   * Evaluates the given products concurrently as tasks of this scope and waits for the first of them to succeed,
+   * then cancels this scope, so that the others are skipped if they have not started. Failures of the given products
+   * do not cancel this scope. Fails if none of them succeeds, or if the deadline of this scope passes first.
+   *
+   * @param ps The products to evaluate concurrently.
+   * @return The value of the first of the given products to succeed.
+   */
+  public <A> A awaitAny(final List<P1<A>> ps) {
+    final int n = ps.length();
+    final Object[] first = new Object[1];
+    final int[] finished = {0};
+    ps.foreachDoEffect(p -> start(P.lazy(() -> {
+      Option<A> a = none();
+      try {
+        a = some(p._1());
+      } catch (final Throwable t) {
+        // only a failure of every product fails awaitAny
+      }
+      synchronized (this) {
+        finished[0]++;
+        if (first[0] == null && a.isSome())
+          first[0] = a;
+        notifyAll();
+      }
+      return Unit.unit();
+    })));
+    synchronized (this) {
+      while (first[0] == null) {
+        if (finished[0] == n || (cancelled && pending.get() == 0))
+          throw error("No task succeeded in scope");
+        waitUntilDeadline();
+      }
+    }
+    cancel();
+    @SuppressWarnings("unchecked")
+    final Option<A> a = (Option<A>) first[0];
+    return a.some();
+  }
+
+  /**
+   * Cancels this scope and waits until its running tasks have finished, ignoring its deadline and any failures.
+   */
+  @Override
+  public void close() {
+    cancel();
+    boolean interrupted = false;
+    synchronized (this) {
+      while (pending.get() != 0) {
+        try {
+          wait();
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted)
+      Thread.currentThread().interrupt();
+  }
+
+  private void start(final P1<Unit> task) {
+    enter();
+    s.par(P.lazy(() -> {
+      try {
+        if (!expired())
+          task._1();
+      } catch (final Throwable t) {
+        fail(t);
+      } finally {
+        exit();
+      }
+      return Unit.unit();
+    }));
+  }
+
+  private void enter() {
+    if (isCancelled())
+      throw error("Scope is cancelled");
+    pending.incrementAndGet();
+  }
+
+  private void exit() {
+    if (pending.decrementAndGet() == 0) {
+      synchronized (this) {
+        notifyAll();
+      }
+    }
+  }
+
+  private boolean expired() {
+    if (isCancelled()) {
+      cancelled = true;
+      return true;
+    }
+    return false;
+  }
+
+  private void fail(final Throwable t) {
+    synchronized (this) {
+      if (failure.isNone())
+        failure = some(t);
+    }
+    cancel();
+  }
+
+  // Must be called holding the monitor of this scope.
+  private void waitUntilDeadline() {
+    final long remaining = deadline - System.nanoTime();
+    if (timed && remaining <= 0) {
+      cancel();
+      throw error("Scope deadline exceeded");
+    }
+    try {
+      if (timed)
+        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+      else
+        wait();
+    } catch (final InterruptedException e) {
+      cancel();
+      Thread.currentThread().interrupt();
+      throw error("Interrupted while waiting for scope");
+    }
+  }
+
+}
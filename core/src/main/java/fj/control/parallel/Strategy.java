@@ -5,6 +5,7 @@ import fj.F2;
 import fj.Function;
 import fj.P;
 import fj.P1;
+import static fj.Bottom.error;
 import static fj.Function.compose;
 import static fj.Function.curry;
 import fj.data.Java;
@@ -16,8 +17,12 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Functional-style parallel evaluation strategies.
@@ -126,6 +131,37 @@ public final class Strategy<A> {
     return P1.sequence(bs.map(concurry(f)));
   }
 
+  /**
+   * Maps the given function over the given list in parallel using this strategy, with at most
+   * <code>maxInFlight</code> elements evaluated but not yet obtained at any time. The first
+   * <code>maxInFlight</code> elements are evaluated immediately, and every value obtained from the returned
+   * product-1 starts the evaluation of the next element, so the window slides over the list in order.
+   *
+   * @param f           A function to map over the given list in parallel.
+   * @param bs          A list over which to map the given function in parallel.
+   * @param maxInFlight The maximum number of elements evaluated concurrently.
+   * @return A product-1 that returns the list with all of its elements transformed by the given function.
+   */
+  @SuppressWarnings("unchecked")
+  public <B> P1<List<A>> parMap(final F<B, A> f, final List<B> bs, final int maxInFlight) {
+    if (maxInFlight < 1)
+      throw error("Maximum number of evaluations in flight must be positive: " + maxInFlight);
+    final F<B, P1<A>> g = concurry(f);
+    final Array<B> xs = bs.toArray();
+    final Object[] window = new Object[Math.min(maxInFlight, xs.length())];
+    for (int i = 0; i < window.length; i++)
+      window[i] = g.f(xs.get(i));
+    return P.hardMemo(() -> {
+      final List.Buffer<A> as = new List.Buffer<>();
+      for (int i = 0; i < xs.length(); i++) {
+        final int w = i % window.length;
+        as.snoc(((P1<A>) window[w])._1());
+        window[w] = i + window.length < xs.length() ? g.f(xs.get(i + window.length)) : null;
+      }
+      return as.toList();
+    });
+  }
+
   /**
    * A strict version of parMap over lists.
    * Maps the given function over the given list in parallel using this strategy,
@@ -381,6 +417,58 @@ public final class Strategy<A> {
     return strategy(p -> obtain(s.submit(Java.<A>P1_Callable().f(p))));
   }
 
+  /**
+   * Provides a parallelization strategy that forks a task in the given ForkJoinPool for every evaluation.
+   * Evaluations started from a worker thread of the pool are pushed onto that worker's own queue, and
+   * obtaining a value from a worker thread joins the task, running queued tasks while it waits instead of
+   * blocking. Nested parallel evaluations (a parMap inside a parMap) therefore do not starve the pool.
+   *
+   * @param pool The ForkJoinPool to use for scheduling evaluations.
+   * @return A Strategy that uses the provided ForkJoinPool to control the method and degree of parallelism.
+   */
+  public static <A> Strategy<A> forkJoinStrategy(final ForkJoinPool pool) {
+    return strategy(p -> {
+      final ForkJoinTask<A> t = new RecursiveTask<A>() {
+        protected A compute() {
+          return p._1();
+        }
+      };
+      final Thread current = Thread.currentThread();
+      if (current instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) current).getPool() == pool) {
+        t.fork();
+      } else {
+        pool.execute(t);
+      }
+      return join(t);
+    });
+  }
+
+  /**
+   * Provides a parallelization strategy that forks a task in the common ForkJoinPool for every evaluation.
+   *
+   * @return A Strategy that uses the common ForkJoinPool to control the method and degree of parallelism.
+   * @see #forkJoinStrategy(ForkJoinPool)
+   */
+  public static <A> Strategy<A> forkJoinStrategy() {
+    return forkJoinStrategy(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Provides a product-1 that joins the given fork-join task to obtain its value.
+   *
+   * @param t A ForkJoinTask to join.
+   * @return A product-1 that joins the given task.
+   */
+  public static <A> P1<A> join(final ForkJoinTask<A> t) {
+    return P.lazy(() -> {
+        try {
+          return t.join();
+        } catch (RuntimeException e) {
+          throw new Error(e);
+        }
+      });
+  }
+
   /**
    * Provides a strategy that performs sequential (non-concurrent) evaluation of its argument.
    *
@@ -462,6 +550,27 @@ public final class Strategy<A> {
     );
   }
 
+  /**
+   * Provides a strategy that records its evaluations in the given metrics: when each one is submitted, starts and
+   * finishes. While the given metrics are disabled, submitted evaluations are passed to this strategy unchanged.
+   *
+   * @param m The metrics in which to record evaluations.
+   * @return A strategy that records its evaluations in the given metrics, using this strategy.
+   */
+  public Strategy<A> instrumented(final Metrics m) {
+    return contramap(a -> {
+      final long submitted = m.submit();
+      return submitted == Metrics.UNTIMED ? a : P.lazy(() -> {
+        final long started = m.start(submitted);
+        try {
+          return a._1();
+        } finally {
+          m.finish(started);
+        }
+      });
+    });
+  }
+
   /**
    * Provides a normalising strategy that fully evaluates its Callable argument.
    *
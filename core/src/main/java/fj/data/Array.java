@@ -5,20 +5,28 @@ import fj.F;
 import fj.F0;
 import fj.F2;
 import fj.Hash;
+import fj.Monoid;
+import fj.Ord;
 import fj.P;
 import fj.P2;
 import fj.Show;
 import fj.Unit;
 import fj.function.Effect1;
+import fj.function.Effect2;
 
 import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 
+import static fj.Bottom.error;
 import static fj.Function.constant;
 import static fj.Function.curry;
 import static fj.Function.identity;
@@ -773,6 +781,346 @@ public final class Array<A> implements Iterable<A> {
     return zipWith(range(0, length()), a -> i -> p(a, i));
   }
 
+  /**
+   * The default number of elements evaluated sequentially by a single fork-join task in the parallel
+   * operations on arrays, such as {@link #parMap(F)} and {@link #parFoldMap(F, Monoid)}.
+   */
+  public static final int DEFAULT_GRAIN_SIZE = 4096;
+
+  /**
+   * Maps the given function across this array in parallel, using the common fork-join pool and the
+   * {@link #DEFAULT_GRAIN_SIZE default grain size}.
+   *
+   * @param f The function to map across this array.
+   * @return A new array after the given function has been applied to each element.
+   */
+  public <B> Array<B> parMap(final F<A, B> f) {
+    return parMap(f, DEFAULT_GRAIN_SIZE);
+  }
+
+  /**
+   * Maps the given function across this array in parallel, using the common fork-join pool. The array is
+   * split into chunks of <code>grainSize</code> elements, each of which is mapped sequentially.
+   *
+   * @param f         The function to map across this array.
+   * @param grainSize The number of elements mapped sequentially by a single task.
+   * @return A new array after the given function has been applied to each element.
+   */
+  @SuppressWarnings("unchecked")
+  public <B> Array<B> parMap(final F<A, B> f, final int grainSize) {
+    final Object[] bs = new Object[a.length];
+    forkJoin(a.length, grainSize, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        bs[i] = f.f((A) a[i]);
+      }
+    });
+    return new Array<>(bs);
+  }
+
+  /**
+   * Filters elements from this array in parallel, using the common fork-join pool and the
+   * {@link #DEFAULT_GRAIN_SIZE default grain size}.
+   *
+   * @param f The predicate function to filter on.
+   * @return A new array whose elements all match the given predicate, in their original order.
+   */
+  public Array<A> parFilter(final F<A, Boolean> f) {
+    return parFilter(f, DEFAULT_GRAIN_SIZE);
+  }
+
+  /**
+   * Filters elements from this array in parallel, using the common fork-join pool. Each chunk of
+   * <code>grainSize</code> elements is filtered sequentially and the surviving elements are then copied
+   * into the result in parallel.
+   *
+   * @param f         The predicate function to filter on.
+   * @param grainSize The number of elements filtered sequentially by a single task.
+   * @return A new array whose elements all match the given predicate, in their original order.
+   */
+  @SuppressWarnings("unchecked")
+  public Array<A> parFilter(final F<A, Boolean> f, final int grainSize) {
+    final int chunks = chunks(a.length, grainSize);
+    final Object[][] kept = new Object[chunks][];
+    final int[] sizes = new int[chunks];
+    forkJoin(chunks, 1, (from, to) -> {
+      for (int c = from; c < to; c++) {
+        final int start = c * grainSize;
+        final int end = start + min(grainSize, a.length - start);
+        final Object[] xs = new Object[end - start];
+        int n = 0;
+        for (int i = start; i < end; i++) {
+          if (f.f((A) a[i]))
+            xs[n++] = a[i];
+        }
+        kept[c] = xs;
+        sizes[c] = n;
+      }
+    });
+
+    final int[] offsets = new int[chunks];
+    int length = 0;
+    for (int c = 0; c < chunks; c++) {
+      offsets[c] = length;
+      length += sizes[c];
+    }
+
+    final Object[] r = new Object[length];
+    forkJoin(chunks, 1, (from, to) -> {
+      for (int c = from; c < to; c++)
+        arraycopy(kept[c], 0, r, offsets[c], sizes[c]);
+    });
+    return new Array<>(r);
+  }
+
+  /**
+   * Maps the given function across this array in parallel while summing the results with the given monoid,
+   * using the common fork-join pool and the {@link #DEFAULT_GRAIN_SIZE default grain size}.
+   *
+   * @param f The function to map across this array.
+   * @param m The monoid with which to sum the results; its sum must be associative.
+   * @return The sum of the results of applying the given function to each element.
+   */
+  public <B> B parFoldMap(final F<A, B> f, final Monoid<B> m) {
+    return parFoldMap(f, m, DEFAULT_GRAIN_SIZE);
+  }
+
+  /**
+   * Maps the given function across this array in parallel while summing the results with the given monoid,
+   * using the common fork-join pool. Each chunk of <code>grainSize</code> elements is summed sequentially
+   * and the chunk sums are combined as a balanced tree, preserving the order of the elements.
+   *
+   * @param f         The function to map across this array.
+   * @param m         The monoid with which to sum the results; its sum must be associative.
+   * @param grainSize The number of elements summed sequentially by a single task.
+   * @return The sum of the results of applying the given function to each element.
+   */
+  @SuppressWarnings("unchecked")
+  public <B> B parFoldMap(final F<A, B> f, final Monoid<B> m, final int grainSize) {
+    checkGrainSize(grainSize);
+    return ForkJoinPool.commonPool().invoke(new RangeTask<>(0, a.length, grainSize, (from, to) -> {
+      B b = m.zero();
+      for (int i = from; i < to; i++) {
+        b = m.sum(b, f.f((A) a[i]));
+      }
+      return b;
+    }, m::sum));
+  }
+
+  /**
+   * Performs a parallel prefix sum of this array with the given monoid, using the common fork-join pool and
+   * the {@link #DEFAULT_GRAIN_SIZE default grain size}. The result is the same as that of
+   * <code>scanLeft(m.sum(), m.zero())</code>.
+   *
+   * @param m The monoid with which to sum the elements; its sum must be associative.
+   * @return The array containing the running sums of this array.
+   */
+  public Array<A> parScan(final Monoid<A> m) {
+    return parScan(m, DEFAULT_GRAIN_SIZE);
+  }
+
+  /**
+   * Performs a parallel prefix sum of this array with the given monoid, using the common fork-join pool.
+   * The sum of every chunk of <code>grainSize</code> elements is computed in parallel, the chunk sums are
+   * scanned sequentially, and each chunk is then scanned in parallel starting from the sum of the chunks
+   * preceding it. The result is the same as that of <code>scanLeft(m.sum(), m.zero())</code>.
+   *
+   * @param m         The monoid with which to sum the elements; its sum must be associative.
+   * @param grainSize The number of elements scanned sequentially by a single task.
+   * @return The array containing the running sums of this array.
+   */
+  @SuppressWarnings("unchecked")
+  public Array<A> parScan(final Monoid<A> m, final int grainSize) {
+    final int chunks = chunks(a.length, grainSize);
+    final Object[] sums = new Object[chunks];
+    forkJoin(chunks, 1, (from, to) -> {
+      for (int c = from; c < to; c++) {
+        final int start = c * grainSize;
+        final int end = start + min(grainSize, a.length - start);
+        A x = m.zero();
+        for (int i = start; i < end; i++) {
+          x = m.sum(x, (A) a[i]);
+        }
+        sums[c] = x;
+      }
+    });
+
+    A acc = m.zero();
+    for (int c = 0; c < chunks; c++) {
+      final A x = (A) sums[c];
+      sums[c] = acc;
+      acc = m.sum(acc, x);
+    }
+
+    final Object[] r = new Object[a.length];
+    forkJoin(chunks, 1, (from, to) -> {
+      for (int c = from; c < to; c++) {
+        final int start = c * grainSize;
+        final int end = start + min(grainSize, a.length - start);
+        A x = (A) sums[c];
+        for (int i = start; i < end; i++) {
+          x = m.sum(x, (A) a[i]);
+          r[i] = x;
+        }
+      }
+    });
+    return new Array<>(r);
+  }
+
+  /**
+   * Sorts this array in parallel according to the given order, using the common fork-join pool and the
+   * {@link #DEFAULT_GRAIN_SIZE default grain size}. The sort is stable.
+   *
+   * @param o The order to sort the elements by.
+   * @return A new sorted array.
+   */
+  public Array<A> parSort(final Ord<A> o) {
+    return parSort(o, DEFAULT_GRAIN_SIZE);
+  }
+
+  /**
+   * Sorts this array in parallel according to the given order, using the common fork-join pool. Chunks of
+   * at most <code>grainSize</code> elements are sorted sequentially, then merged pairwise in parallel.
+   * The sort is stable.
+   *
+   * @param o         The order to sort the elements by.
+   * @param grainSize The number of elements sorted sequentially by a single task.
+   * @return A new sorted array.
+   */
+  @SuppressWarnings("unchecked")
+  public Array<A> parSort(final Ord<A> o, final int grainSize) {
+    checkGrainSize(grainSize);
+    final Object[] xs = array();
+    ForkJoinPool.commonPool().invoke(new SortAction(xs, new Object[xs.length], 0, xs.length, grainSize,
+        (Comparator<Object>) o.toComparator()));
+    return new Array<>(xs);
+  }
+
+  private static void checkGrainSize(final int grainSize) {
+    if (grainSize < 1)
+      throw error("Grain size must be positive: " + grainSize);
+  }
+
+  private static int chunks(final int length, final int grainSize) {
+    checkGrainSize(grainSize);
+    return length / grainSize + (length % grainSize == 0 ? 0 : 1);
+  }
+
+  private static void forkJoin(final int length, final int grainSize, final Effect2<Integer, Integer> e) {
+    checkGrainSize(grainSize);
+    ForkJoinPool.commonPool().invoke(new RangeAction(0, length, grainSize, e));
+  }
+
+  /**
+   * Applies an effect to the bounds of every chunk of a range of indices, splitting the range in halves
+   * until it is no longer than the grain size.
+   */
+  @SuppressWarnings("serial")
+  private static final class RangeAction extends RecursiveAction {
+    private final int from;
+    private final int to;
+    private final int grainSize;
+    private final Effect2<Integer, Integer> e;
+
+    RangeAction(final int from, final int to, final int grainSize, final Effect2<Integer, Integer> e) {
+      this.from = from;
+      this.to = to;
+      this.grainSize = grainSize;
+      this.e = e;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= grainSize) {
+        e.f(from, to);
+      } else {
+        final int mid = (from + to) >>> 1;
+        invokeAll(new RangeAction(from, mid, grainSize, e), new RangeAction(mid, to, grainSize, e));
+      }
+    }
+  }
+
+  /**
+   * Computes a value for every chunk of a range of indices and combines the values of adjacent chunks,
+   * splitting the range in halves until it is no longer than the grain size.
+   */
+  @SuppressWarnings("serial")
+  private static final class RangeTask<B> extends RecursiveTask<B> {
+    private final int from;
+    private final int to;
+    private final int grainSize;
+    private final F2<Integer, Integer, B> leaf;
+    private final F2<B, B, B> combine;
+
+    RangeTask(final int from, final int to, final int grainSize, final F2<Integer, Integer, B> leaf,
+              final F2<B, B, B> combine) {
+      this.from = from;
+      this.to = to;
+      this.grainSize = grainSize;
+      this.leaf = leaf;
+      this.combine = combine;
+    }
+
+    @Override
+    protected B compute() {
+      if (to - from <= grainSize) {
+        return leaf.f(from, to);
+      } else {
+        final int mid = (from + to) >>> 1;
+        final RangeTask<B> right = new RangeTask<>(mid, to, grainSize, leaf, combine);
+        right.fork();
+        final B l = new RangeTask<>(from, mid, grainSize, leaf, combine).compute();
+        return combine.f(l, right.join());
+      }
+    }
+  }
+
+  /**
+   * A stable merge sort of a range of an array, sorting both halves in parallel before merging them
+   * through the given buffer.
+   */
+  @SuppressWarnings("serial")
+  private static final class SortAction extends RecursiveAction {
+    private final Object[] xs;
+    private final Object[] buffer;
+    private final int from;
+    private final int to;
+    private final int grainSize;
+    private final Comparator<Object> c;
+
+    SortAction(final Object[] xs, final Object[] buffer, final int from, final int to, final int grainSize,
+               final Comparator<Object> c) {
+      this.xs = xs;
+      this.buffer = buffer;
+      this.from = from;
+      this.to = to;
+      this.grainSize = grainSize;
+      this.c = c;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= grainSize) {
+        Arrays.sort(xs, from, to, c);
+      } else {
+        final int mid = (from + to) >>> 1;
+        invokeAll(new SortAction(xs, buffer, from, mid, grainSize, c),
+            new SortAction(xs, buffer, mid, to, grainSize, c));
+        if (c.compare(xs[mid - 1], xs[mid]) > 0) {
+          arraycopy(xs, from, buffer, from, to - from);
+          int i = from;
+          int j = mid;
+          int k = from;
+          while (i < mid && j < to)
+            xs[k++] = c.compare(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+          while (i < mid)
+            xs[k++] = buffer[i++];
+          while (j < to)
+            xs[k++] = buffer[j++];
+        }
+      }
+    }
+  }
+
   /**
    * Projects an immutable collection of this array.
    *
@@ -0,0 +1,366 @@
+package fj.data;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+import static fj.Bottom.error;
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+
+/**
+ * An immutable array of unboxed <code>double</code> values, providing the operations of {@link Array}
+ * without boxing its elements.
+ *
+ * @version %build.number%
+ */
+public final class DoubleArray {
+  private static final DoubleArray EMPTY = new DoubleArray(new double[0]);
+
+  private final double[] a;
+
+  private DoubleArray(final double[] a) {
+    this.a = a;
+  }
+
+  /**
+   * Returns the element at the given index if it exists, fails otherwise.
+   *
+   * @param index The index at which to get the element to return.
+   * @return The element at the given index if it exists, fails otherwise.
+   */
+  public double get(final int index) {
+    return a[index];
+  }
+
+  /**
+   * Returns the length of this array.
+   *
+   * @return The length of this array.
+   */
+  public int length() {
+    return a.length;
+  }
+
+  /**
+   * Returns <code>true</code> is this array is empty, <code>false</code> otherwise.
+   *
+   * @return <code>true</code> is this array is empty, <code>false</code> otherwise.
+   */
+  public boolean isEmpty() {
+    return a.length == 0;
+  }
+
+  /**
+   * Returns <code>false</code> is this array is empty, <code>true</code> otherwise.
+   *
+   * @return <code>false</code> is this array is empty, <code>true</code> otherwise.
+   */
+  public boolean isNotEmpty() {
+    return a.length != 0;
+  }
+
+  /**
+   * Returns a copy of the underlying primitive array.
+   *
+   * @return A copy of the underlying primitive array.
+   */
+  public double[] array() {
+    return a.clone();
+  }
+
+  /**
+   * Returns an array of the boxed elements of this array.
+   *
+   * @return An array of the boxed elements of this array.
+   */
+  public Array<Double> toArray() {
+    final Double[] bs = new Double[a.length];
+
+    for (int i = 0; i < a.length; i++) {
+      bs[i] = a[i];
+    }
+
+    return Array.array(bs);
+  }
+
+  /**
+   * Returns a list of the boxed elements of this array.
+   *
+   * @return A list of the boxed elements of this array.
+   */
+  public List<Double> toList() {
+    List<Double> x = List.nil();
+
+    for (int i = a.length - 1; i >= 0; i--) {
+      x = x.cons(a[i]);
+    }
+
+    return x;
+  }
+
+  /**
+   * Maps the given function across this array.
+   *
+   * @param f The function to map across this array.
+   * @return A new array after the given function has been applied to each element.
+   */
+  public DoubleArray map(final DoubleUnaryOperator f) {
+    final double[] bs = new double[a.length];
+
+    for (int i = 0; i < a.length; i++) {
+      bs[i] = f.applyAsDouble(a[i]);
+    }
+
+    return new DoubleArray(bs);
+  }
+
+  /**
+   * Filters elements from this array by returning only elements which produce <code>true</code>
+   * when the given function is applied to them.
+   *
+   * @param f The predicate function to filter on.
+   * @return A new array whose elements all match the given predicate.
+   */
+  public DoubleArray filter(final DoublePredicate f) {
+    final double[] bs = new double[a.length];
+    int n = 0;
+
+    for (final double x : a) {
+      if (f.test(x))
+        bs[n++] = x;
+    }
+
+    return n == a.length ? this : new DoubleArray(Arrays.copyOf(bs, n));
+  }
+
+  /**
+   * Performs a side-effect for each element of this array.
+   *
+   * @param f The side-effect to perform for the given element.
+   */
+  public void foreachDoEffect(final DoubleConsumer f) {
+    for (final double x : a) {
+      f.accept(x);
+    }
+  }
+
+  /**
+   * Performs a left-fold reduction across this array. This function runs in constant space.
+   *
+   * @param f The function to apply on each element of the array.
+   * @param b The beginning value to start the application from.
+   * @return The final result after the left-fold reduction.
+   */
+  public double foldLeft(final DoubleBinaryOperator f, final double b) {
+    double x = b;
+
+    for (final double aa : a)
+      x = f.applyAsDouble(x, aa);
+
+    return x;
+  }
+
+  /**
+   * Performs a right-fold reduction across this array. This function runs in constant stack space.
+   *
+   * @param f The function to apply on each element of the array.
+   * @param b The beginning value to start the application from.
+   * @return The final result after the right-fold reduction.
+   */
+  public double foldRight(final DoubleBinaryOperator f, final double b) {
+    double x = b;
+
+    for (int i = a.length - 1; i >= 0; i--)
+      x = f.applyAsDouble(a[i], x);
+
+    return x;
+  }
+
+  /**
+   * Performs a fold left accummulating and returns an array of the intermediate results.
+   * This function runs in constant stack space.
+   *
+   * @param f The function to apply on each argument pair (initial value/previous result and next array element)
+   * @param b The beginning value to start the application from.
+   * @return The array containing all intermediate results of the left-fold reduction.
+   */
+  public DoubleArray scanLeft(final DoubleBinaryOperator f, final double b) {
+    final double[] bs = new double[a.length];
+    double x = b;
+
+    for (int i = 0; i < a.length; i++) {
+      x = f.applyAsDouble(x, a[i]);
+      bs[i] = x;
+    }
+
+    return new DoubleArray(bs);
+  }
+
+  /**
+   * Zips this array with the given array using the given function to produce a new array. If this
+   * array and the given array have different lengths, then the longer array is normalised so this
+   * function never fails.
+   *
+   * @param bs The array to zip this array with.
+   * @param f  The function to zip this array and the given array with.
+   * @return A new array with a length the same as the shortest of this array and the given array.
+   */
+  public DoubleArray zipWith(final DoubleArray bs, final DoubleBinaryOperator f) {
+    final int len = min(a.length, bs.a.length);
+    final double[] x = new double[len];
+
+    for (int i = 0; i < len; i++) {
+      x[i] = f.applyAsDouble(a[i], bs.a[i]);
+    }
+
+    return new DoubleArray(x);
+  }
+
+  /**
+   * Appends the given array to this array.
+   *
+   * @param aas The array to append to this one.
+   * @return A new array that has appended the given array.
+   */
+  public DoubleArray append(final DoubleArray aas) {
+    final double[] x = new double[a.length + aas.a.length];
+
+    arraycopy(a, 0, x, 0, a.length);
+    arraycopy(aas.a, 0, x, a.length, aas.a.length);
+
+    return new DoubleArray(x);
+  }
+
+  /**
+   * Reverse this array in constant stack space.
+   *
+   * @return A new array that is the reverse of this one.
+   */
+  public DoubleArray reverse() {
+    final double[] x = new double[a.length];
+
+    for (int i = 0; i < a.length; i++) {
+      x[a.length - 1 - i] = a[i];
+    }
+
+    return new DoubleArray(x);
+  }
+
+  /**
+   * Sorts this array in ascending order.
+   *
+   * @return A new sorted array.
+   */
+  public DoubleArray sort() {
+    final double[] x = a.clone();
+    Arrays.sort(x);
+    return new DoubleArray(x);
+  }
+
+  /**
+   * Returns the sum of the elements of this array, or zero if it is empty.
+   *
+   * @return The sum of the elements of this array.
+   */
+  public double sum() {
+    double x = 0;
+
+    for (final double aa : a)
+      x += aa;
+
+    return x;
+  }
+
+  /**
+   * Returns the smallest element of this array. It will fail for empty arrays.
+   *
+   * @return The smallest element of this array.
+   */
+  public double minimum() {
+    if (a.length == 0)
+      throw error("Undefined: minimum on empty array");
+    double x = a[0];
+
+    for (int i = 1; i < a.length; i++)
+      x = min(x, a[i]);
+
+    return x;
+  }
+
+  /**
+   * Returns the largest element of this array. It will fail for empty arrays.
+   *
+   * @return The largest element of this array.
+   */
+  public double maximum() {
+    if (a.length == 0)
+      throw error("Undefined: maximum on empty array");
+    double x = a[0];
+
+    for (int i = 1; i < a.length; i++)
+      x = Math.max(x, a[i]);
+
+    return x;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return o == this || (o instanceof DoubleArray && Arrays.equals(a, ((DoubleArray) o).a));
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(a);
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("DoubleArray(");
+
+    for (int i = 0; i < a.length; i++) {
+      if (i > 0)
+        sb.append(',');
+      sb.append(a[i]);
+    }
+
+    return sb.append(')').toString();
+  }
+
+  /**
+   * Returns an empty array.
+   *
+   * @return An empty array.
+   */
+  public static DoubleArray empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Constructs an array from the given elements, which are copied.
+   *
+   * @param as The elements to construct the array with.
+   * @return A new array of the given elements.
+   */
+  public static DoubleArray array(final double... as) {
+    return as.length == 0 ? EMPTY : new DoubleArray(as.clone());
+  }
+
+  /**
+   * Constructs an array from the unboxed elements of the given array.
+   *
+   * @param as The array of boxed elements to construct the array with.
+   * @return A new array of the unboxed elements of the given array.
+   */
+  public static DoubleArray fromArray(final Array<Double> as) {
+    final double[] x = new double[as.length()];
+
+    for (int i = 0; i < x.length; i++) {
+      x[i] = as.get(i);
+    }
+
+    return new DoubleArray(x);
+  }
+}
@@ -297,7 +297,7 @@ public final class IOFunctions {
     }
 
     public static <A, B> IO<B> map(final IO<A> io, final F<A, B> f) {
-        return () -> f.f(io.run());
+        return new MapIO<>(io, f);
     }
 
     public static <A, B> IO<B> as(final IO<A> io, final B b) {
@@ -308,8 +308,12 @@ public final class IOFunctions {
         return as(io, Unit.unit());
     }
 
+    /**
+     * Binds the given function across the result of the given IO. The bind is reified, so that
+     * arbitrarily long chains of binds run in constant stack.
+     */
     public static <A, B> IO<B> bind(final IO<A> io, final F<A, IO<B>> f) {
-        return () -> f.f(io.run()).run();
+        return new BindIO<>(io, f);
     }
 
     public static IO<Unit> when(final Boolean b, final IO<Unit> io) {
@@ -324,16 +328,20 @@ public final class IOFunctions {
      * Evaluate each action in the sequence from left to right, and collect the results.
      */
     public static <A> IO<List<A>> sequence(List<IO<A>> list) {
-        F2<IO<A>, IO<List<A>>, IO<List<A>>> f2 = (io, ioList) ->
-                bind(ioList, (xs) -> map(io, x -> List.cons(x, xs)));
-        return list.foldRight(f2, unit(List.nil()));
+        return () -> {
+            final List.Buffer<A> buffer = new List.Buffer<>();
+            for (final IO<A> io : list) {
+                buffer.snoc(io.run());
+            }
+            return buffer.toList();
+        };
     }
 
-
+    /**
+     * Evaluate each action in the stream from left to right, and collect the results.
+     */
     public static <A> IO<Stream<A>> sequence(Stream<IO<A>> stream) {
-        F2<IO<Stream<A>>, IO<A>, IO<Stream<A>>> f2 = (ioList, io) ->
-                bind(ioList, (xs) -> map(io, x -> Stream.cons(x, () -> xs)));
-        return stream.foldLeft(f2, unit(Stream.nil()));
+        return map(sequence(stream.toList()), List::toStream);
     }
 
 
@@ -346,18 +354,11 @@ public final class IOFunctions {
     }
 
     public static <A, B> IO<B> append(final IO<A> io1, final IO<B> io2) {
-        return () -> {
-            io1.run();
-            return io2.run();
-        };
+        return bind(io1, ignored -> io2);
     }
 
     public static <A, B> IO<A> left(final IO<A> io1, final IO<B> io2) {
-        return () -> {
-            A a = io1.run();
-            io2.run();
-            return a;
-        };
+        return bind(io1, a -> as(io2, a));
     }
 
     public static <A, B> IO<B> flatMap(final IO<A> io, final F<A, IO<B>> f) {
@@ -453,8 +454,18 @@ public final class IOFunctions {
     }
 
     public static IO<LazyString> getContents() {
-        Stream<IO<Integer>> s = Stream.repeat(() -> stdinBufferedReader.read());
-        return map(sequenceWhile(s, i -> i != -1), s2 -> LazyString.fromStream(s2.map(i -> (char) i.intValue())));
+        return () -> LazyString.fromStrings(readBlocks(stdinBufferedReader, new char[DEFAULT_BUFFER_SIZE]));
+    }
+
+    // Lazily reads the rest of the given reader a buffer of characters at a time. Each read is memoised strongly,
+    // since stream tails are only memoised weakly and must not read again.
+    private static Stream<String> readBlocks(final Reader r, final char[] buffer) throws IOException {
+        final int n = r.read(buffer);
+        if (n == -1) {
+            return Stream.nil();
+        }
+        final SafeIO<Stream<String>> s = toSafe(() -> readBlocks(r, buffer));
+        return Stream.cons(new String(buffer, 0, n), P.hardMemo(s::run));
     }
 
     public static IO<Unit> interact(F<LazyString, LazyString> f) {
@@ -464,4 +475,81 @@ public final class IOFunctions {
         });
     }
 
+    /**
+     * Runs the given IO, interpreting reified binds and maps with an explicit stack of continuations
+     * rather than the Java call stack.
+     */
+    @SuppressWarnings("unchecked")
+    static <A> A runLoop(final IO<A> io) throws IOException {
+        IO<Object> current = (IO<Object>) io;
+        Object[] stack = new Object[16];
+        int size = 0;
+        while (true) {
+            if (current instanceof BindIO) {
+                final BindIO<Object, Object> b = (BindIO<Object, Object>) current;
+                if (size == stack.length) {
+                    stack = Arrays.copyOf(stack, size * 2);
+                }
+                stack[size++] = b;
+                current = b.io;
+            } else if (current instanceof MapIO) {
+                final MapIO<Object, Object> m = (MapIO<Object, Object>) current;
+                if (size == stack.length) {
+                    stack = Arrays.copyOf(stack, size * 2);
+                }
+                stack[size++] = m;
+                current = m.io;
+            } else if (current instanceof IOW) {
+                current = ((IOW<Object>) current).io();
+            } else {
+                Object a = current.run();
+                current = null;
+                while (current == null) {
+                    if (size == 0) {
+                        return (A) a;
+                    }
+                    final Object k = stack[--size];
+                    stack[size] = null;
+                    if (k instanceof MapIO) {
+                        a = ((MapIO<Object, Object>) k).f.f(a);
+                    } else {
+                        current = ((BindIO<Object, Object>) k).f.f(a);
+                    }
+                }
+            }
+        }
+    }
+
+    // An IO that runs an IO, then the IO computed from its result.
+    private static final class BindIO<A, B> implements IO<B> {
+        private final IO<A> io;
+        private final F<A, IO<B>> f;
+
+        BindIO(final IO<A> io, final F<A, IO<B>> f) {
+            this.io = io;
+            this.f = f;
+        }
+
+        @Override
+        public B run() throws IOException {
+            return runLoop(this);
+        }
+    }
+
+    // An IO that runs an IO, then applies a function to its result.
+    private static final class MapIO<A, B> implements IO<B> {
+        private final IO<A> io;
+        private final F<A, B> f;
+
+        MapIO(final IO<A> io, final F<A, B> f) {
+            this.io = io;
+            this.f = f;
+        }
+
+        @Override
+        public B run() throws IOException {
+            return runLoop(this);
+        }
+    }
+
 }
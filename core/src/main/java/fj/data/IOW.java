@@ -20,6 +20,10 @@ public final class IOW<A> implements IO<A> {
         return new IOW<>(io);
     }
 
+    IO<A> io() {
+        return io;
+    }
+
     @Override
     public A run() throws IOException {
         return io.run();
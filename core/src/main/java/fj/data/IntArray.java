@@ -0,0 +1,388 @@
+package fj.data;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import static fj.Bottom.error;
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+
+/**
+ * An immutable array of unboxed <code>int</code> values, providing the operations of {@link Array}
+ * without boxing its elements.
+ *
+ * @version %build.number%
+ */
+public final class IntArray {
+  private static final IntArray EMPTY = new IntArray(new int[0]);
+
+  private final int[] a;
+
+  private IntArray(final int[] a) {
+    this.a = a;
+  }
+
+  /**
+   * Returns the element at the given index if it exists, fails otherwise.
+   *
+   * @param index The index at which to get the element to return.
+   * @return The element at the given index if it exists, fails otherwise.
+   */
+  public int get(final int index) {
+    return a[index];
+  }
+
+  /**
+   * Returns the length of this array.
+   *
+   * @return The length of this array.
+   */
+  public int length() {
+    return a.length;
+  }
+
+  /**
+   * Returns <code>true</code> is this array is empty, <code>false</code> otherwise.
+   *
+   * @return <code>true</code> is this array is empty, <code>false</code> otherwise.
+   */
+  public boolean isEmpty() {
+    return a.length == 0;
+  }
+
+  /**
+   * Returns <code>false</code> is this array is empty, <code>true</code> otherwise.
+   *
+   * @return <code>false</code> is this array is empty, <code>true</code> otherwise.
+   */
+  public boolean isNotEmpty() {
+    return a.length != 0;
+  }
+
+  /**
+   * Returns a copy of the underlying primitive array.
+   *
+   * @return A copy of the underlying primitive array.
+   */
+  public int[] array() {
+    return a.clone();
+  }
+
+  /**
+   * Returns an array of the boxed elements of this array.
+   *
+   * @return An array of the boxed elements of this array.
+   */
+  public Array<Integer> toArray() {
+    final Integer[] bs = new Integer[a.length];
+
+    for (int i = 0; i < a.length; i++) {
+      bs[i] = a[i];
+    }
+
+    return Array.array(bs);
+  }
+
+  /**
+   * Returns a list of the boxed elements of this array.
+   *
+   * @return A list of the boxed elements of this array.
+   */
+  public List<Integer> toList() {
+    List<Integer> x = List.nil();
+
+    for (int i = a.length - 1; i >= 0; i--) {
+      x = x.cons(a[i]);
+    }
+
+    return x;
+  }
+
+  /**
+   * Maps the given function across this array.
+   *
+   * @param f The function to map across this array.
+   * @return A new array after the given function has been applied to each element.
+   */
+  public IntArray map(final IntUnaryOperator f) {
+    final int[] bs = new int[a.length];
+
+    for (int i = 0; i < a.length; i++) {
+      bs[i] = f.applyAsInt(a[i]);
+    }
+
+    return new IntArray(bs);
+  }
+
+  /**
+   * Filters elements from this array by returning only elements which produce <code>true</code>
+   * when the given function is applied to them.
+   *
+   * @param f The predicate function to filter on.
+   * @return A new array whose elements all match the given predicate.
+   */
+  public IntArray filter(final IntPredicate f) {
+    final int[] bs = new int[a.length];
+    int n = 0;
+
+    for (final int x : a) {
+      if (f.test(x))
+        bs[n++] = x;
+    }
+
+    return n == a.length ? this : new IntArray(Arrays.copyOf(bs, n));
+  }
+
+  /**
+   * Performs a side-effect for each element of this array.
+   *
+   * @param f The side-effect to perform for the given element.
+   */
+  public void foreachDoEffect(final IntConsumer f) {
+    for (final int x : a) {
+      f.accept(x);
+    }
+  }
+
+  /**
+   * Performs a left-fold reduction across this array. This function runs in constant space.
+   *
+   * @param f The function to apply on each element of the array.
+   * @param b The beginning value to start the application from.
+   * @return The final result after the left-fold reduction.
+   */
+  public int foldLeft(final IntBinaryOperator f, final int b) {
+    int x = b;
+
+    for (final int aa : a)
+      x = f.applyAsInt(x, aa);
+
+    return x;
+  }
+
+  /**
+   * Performs a right-fold reduction across this array. This function runs in constant stack space.
+   *
+   * @param f The function to apply on each element of the array.
+   * @param b The beginning value to start the application from.
+   * @return The final result after the right-fold reduction.
+   */
+  public int foldRight(final IntBinaryOperator f, final int b) {
+    int x = b;
+
+    for (int i = a.length - 1; i >= 0; i--)
+      x = f.applyAsInt(a[i], x);
+
+    return x;
+  }
+
+  /**
+   * Performs a fold left accummulating and returns an array of the intermediate results.
+   * This function runs in constant stack space.
+   *
+   * @param f The function to apply on each argument pair (initial value/previous result and next array element)
+   * @param b The beginning value to start the application from.
+   * @return The array containing all intermediate results of the left-fold reduction.
+   */
+  public IntArray scanLeft(final IntBinaryOperator f, final int b) {
+    final int[] bs = new int[a.length];
+    int x = b;
+
+    for (int i = 0; i < a.length; i++) {
+      x = f.applyAsInt(x, a[i]);
+      bs[i] = x;
+    }
+
+    return new IntArray(bs);
+  }
+
+  /**
+   * Zips this array with the given array using the given function to produce a new array. If this
+   * array and the given array have different lengths, then the longer array is normalised so this
+   * function never fails.
+   *
+   * @param bs The array to zip this array with.
+   * @param f  The function to zip this array and the given array with.
+   * @return A new array with a length the same as the shortest of this array and the given array.
+   */
+  public IntArray zipWith(final IntArray bs, final IntBinaryOperator f) {
+    final int len = min(a.length, bs.a.length);
+    final int[] x = new int[len];
+
+    for (int i = 0; i < len; i++) {
+      x[i] = f.applyAsInt(a[i], bs.a[i]);
+    }
+
+    return new IntArray(x);
+  }
+
+  /**
+   * Appends the given array to this array.
+   *
+   * @param aas The array to append to this one.
+   * @return A new array that has appended the given array.
+   */
+  public IntArray append(final IntArray aas) {
+    final int[] x = new int[a.length + aas.a.length];
+
+    arraycopy(a, 0, x, 0, a.length);
+    arraycopy(aas.a, 0, x, a.length, aas.a.length);
+
+    return new IntArray(x);
+  }
+
+  /**
+   * Reverse this array in constant stack space.
+   *
+   * @return A new array that is the reverse of this one.
+   */
+  public IntArray reverse() {
+    final int[] x = new int[a.length];
+
+    for (int i = 0; i < a.length; i++) {
+      x[a.length - 1 - i] = a[i];
+    }
+
+    return new IntArray(x);
+  }
+
+  /**
+   * Sorts this array in ascending order.
+   *
+   * @return A new sorted array.
+   */
+  public IntArray sort() {
+    final int[] x = a.clone();
+    Arrays.sort(x);
+    return new IntArray(x);
+  }
+
+  /**
+   * Returns the sum of the elements of this array, or zero if it is empty.
+   *
+   * @return The sum of the elements of this array.
+   */
+  public int sum() {
+    int x = 0;
+
+    for (final int aa : a)
+      x += aa;
+
+    return x;
+  }
+
+  /**
+   * Returns the smallest element of this array. It will fail for empty arrays.
+   *
+   * @return The smallest element of this array.
+   */
+  public int minimum() {
+    if (a.length == 0)
+      throw error("Undefined: minimum on empty array");
+    int x = a[0];
+
+    for (int i = 1; i < a.length; i++)
+      x = min(x, a[i]);
+
+    return x;
+  }
+
+  /**
+   * Returns the largest element of this array. It will fail for empty arrays.
+   *
+   * @return The largest element of this array.
+   */
+  public int maximum() {
+    if (a.length == 0)
+      throw error("Undefined: maximum on empty array");
+    int x = a[0];
+
+    for (int i = 1; i < a.length; i++)
+      x = Math.max(x, a[i]);
+
+    return x;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return o == this || (o instanceof IntArray && Arrays.equals(a, ((IntArray) o).a));
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(a);
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("IntArray(");
+
+    for (int i = 0; i < a.length; i++) {
+      if (i > 0)
+        sb.append(',');
+      sb.append(a[i]);
+    }
+
+    return sb.append(')').toString();
+  }
+
+  /**
+   * Returns an empty array.
+   *
+   * @return An empty array.
+   */
+  public static IntArray empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Constructs an array from the given elements, which are copied.
+   *
+   * @param as The elements to construct the array with.
+   * @return A new array of the given elements.
+   */
+  public static IntArray array(final int... as) {
+    return as.length == 0 ? EMPTY : new IntArray(as.clone());
+  }
+
+  /**
+   * Constructs an array from the unboxed elements of the given array.
+   *
+   * @param as The array of boxed elements to construct the array with.
+   * @return A new array of the unboxed elements of the given array.
+   */
+  public static IntArray fromArray(final Array<Integer> as) {
+    final int[] x = new int[as.length()];
+
+    for (int i = 0; i < x.length; i++) {
+      x[i] = as.get(i);
+    }
+
+    return new IntArray(x);
+  }
+
+  /**
+   * Returns an array of integers from the given <code>from</code> value (inclusive) to the given
+   * <code>to</code> value (exclusive).
+   *
+   * @param from The minimum value for the array (inclusive).
+   * @param to   The maximum value for the array (exclusive).
+   * @return An array of integers from the given <code>from</code> value (inclusive) to the given
+   *         <code>to</code> value (exclusive).
+   */
+  public static IntArray range(final int from, final int to) {
+    if (from >= to)
+      return EMPTY;
+    else {
+      final int[] x = new int[to - from];
+
+      for (int i = from; i < to; i++)
+        x[i - from] = i;
+
+      return new IntArray(x);
+    }
+  }
+}
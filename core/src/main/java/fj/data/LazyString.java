@@ -2,42 +2,60 @@ package fj.data;
 
 import fj.*;
 
-import static fj.Function.compose;
+import static fj.Bottom.error;
 import static fj.Function.curry;
+import static fj.Monoid.intAdditionMonoid;
 import static fj.P.p;
 import static fj.data.Option.none;
 import static fj.data.Option.some;
 import static fj.data.Stream.join;
-import static fj.function.Booleans.or;
+import static fj.data.fingertrees.FingerTree.measured;
 import static fj.function.Characters.isSpaceChar;
 import static fj.Equal.charEqual;
-import static fj.Equal.streamEqual;
+
+import fj.data.fingertrees.FingerTree;
+import fj.data.fingertrees.MakeTree;
 
 import java.util.regex.Pattern;
 
 /**
  * A lazy (non-evaluated) immutable character string.
+ * <p/>
+ * A lazy string is a rope of strict chunks, followed by a lazy stream of chunks. The rope is a finger tree of
+ * slices of strings measured by their lengths, which gives O(1) length, O(log n) {@link #charAt(int)} and
+ * {@link #subSequence(int, int)}, and O(1) amortized appends of strict strings. Lazy strings constructed from a
+ * stream keep it unevaluated a block of characters at a time, and strings appended to one are appended to its
+ * stream of chunks.
  */
 public final class LazyString implements CharSequence {
-  private final Stream<Character> s;
+  private static final MakeTree<Integer, Chunk> MK_TREE = FingerTree.mkTree(measured(intAdditionMonoid, Chunk::length));
 
-  private LazyString(final Stream<Character> s) {
-    this.s = s;
+  /**
+   * The length up to which adjacent chunks are copied into one when appending strict strings.
+   */
+  private static final int MERGE_LENGTH = 256;
+
+  /**
+   * The number of characters of a stream that are evaluated into each chunk.
+   */
+  private static final int CHUNK_LENGTH = 1024;
+
+  private final FingerTree<Integer, Chunk> rope;
+  private final Stream<Chunk> rest;
+
+  private LazyString(final FingerTree<Integer, Chunk> rope, final Stream<Chunk> rest) {
+    this.rope = rope;
+    this.rest = rest;
   }
 
   /**
-   * Constructs a lazy string from a String.
+   * Constructs a lazy string from a String. This is an O(1) operation which does not copy the given string.
    *
    * @param s A string from which to construct a lazy string.
    * @return A lazy string with the characters from the given string.
    */
   public static LazyString str(final String s) {
-    return new LazyString(Stream.unfold(o -> {
-        final String s2 = o._1();
-        final int n = o._2();
-        final Option<P2<Character, P2<String, Integer>>> none = none();
-        return s2.length() <= n ? none : some(p(s2.charAt(n), p(s2, n + 1)));
-      }, p(s, 0)));
+    return new LazyString(s.isEmpty() ? MK_TREE.empty() : MK_TREE.single(new Chunk(s)), Stream.nil());
   }
 
   /**
@@ -46,13 +64,21 @@ public final class LazyString implements CharSequence {
   public static final LazyString empty = str("");
 
   /**
-   * Constructs a lazy string from a stream of characters.
+   * Constructs a lazy string from a stream of characters. The stream is evaluated a block of characters at a
+   * time, as the lazy string is.
    *
    * @param s A stream of characters.
    * @return A lazy string with the characters from the given stream.
    */
   public static LazyString fromStream(final Stream<Character> s) {
-    return new LazyString(s);
+    return new LazyString(MK_TREE.empty(), chunks(s));
+  }
+
+  /**
+   * Constructs a lazy string from a stream of strings, without copying them.
+   */
+  static LazyString fromStrings(final Stream<String> s) {
+    return new LazyString(MK_TREE.empty(), s.filter(t -> !t.isEmpty()).map(Chunk::new));
   }
 
   /**
@@ -61,26 +87,43 @@ public final class LazyString implements CharSequence {
    * @return A stream representation of this lazy string.
    */
   public Stream<Character> toStream() {
-    return s;
+    return join(chunks().map(Chunk::toStream));
   }
 
   /**
-   * The length of the lazy string. Note that this operation is O(n).
+   * The length of the lazy string. This operation is O(1) for strict strings, and linear in the number of
+   * chunks of the stream of a lazy string constructed from one.
    *
    * @return The length of this lazy string.
    */
   public int length() {
-    return s.length();
+    int n = rope.measure();
+    for (final Chunk c : rest)
+      n += c.length();
+    return n;
   }
 
   /**
-   * Returns the caracter at the specified index.
+   * Returns the caracter at the specified index. This operation is O(log n) within the strict part of this
+   * lazy string, and linear in the number of chunks of its stream before the index otherwise.
    *
    * @param index The index for the character to be returned.
    * @return The character at the specified index.
    */
   public char charAt(final int index) {
-    return s.index(index);
+    final int m = rope.measure();
+    if (index >= 0 && index < m) {
+      final P2<Integer, Chunk> p = rope.lookup(Function.identity(), index);
+      return p._2().charAt(p._1());
+    } else if (index >= m) {
+      int i = index - m;
+      for (final Chunk c : rest) {
+        if (i < c.length())
+          return c.charAt(i);
+        i -= c.length();
+      }
+    }
+    throw error("index " + index + " out of range on lazy string");
   }
 
   /**
@@ -94,7 +137,13 @@ public final class LazyString implements CharSequence {
    * @return A character sequence containing the specified character subsequence.
    */
   public CharSequence subSequence(final int start, final int end) {
-    return fromStream(s.drop(start).take(end - start));
+    final int from = Math.max(start, 0);
+    final int n = Math.max(end - start, 0);
+    final int m = rope.measure();
+    if (from >= m)
+      return new LazyString(MK_TREE.empty(), take(drop(rest, from - m), n));
+    final FingerTree<Integer, Chunk> sub = take(drop(rope, from), n);
+    return new LazyString(sub, take(rest, n - sub.measure()));
   }
 
   /**
@@ -103,13 +152,18 @@ public final class LazyString implements CharSequence {
    * @return The String representation of this lazy string.
    */
   public String toStringEager() {
-    final StringBuilder builder = new StringBuilder(length() + 16);
-    s.foreachDoEffect(c -> builder.append(c.charValue()));
+    if (rest.isEmpty() && rope.isEmpty())
+      return "";
+    else if (rest.isEmpty() && rope.tail().isEmpty())
+      return rope.head().toString();
+    final StringBuilder builder = new StringBuilder(rope.measure() + 16);
+    for (final Chunk c : chunks())
+      builder.append(c.s, c.from, c.to);
     return builder.toString();
   }
 
   public String toStringLazy() {
-    return s.isEmpty() ? "" : "LazyString(" + Show.charShow.showS(s.head()) + ", ?)";
+    return isEmpty() ? "" : "LazyString(" + Show.charShow.showS(head()) + ", ?)";
   }
 
   @Override
@@ -128,7 +182,8 @@ public final class LazyString implements CharSequence {
    * @return A new lazy string that is the concatenation of this string and the given string.
    */
   public LazyString append(final LazyString cs) {
-    return fromStream(s.append(cs.s));
+    return rest.isEmpty() ? new LazyString(concat(rope, cs.rope), cs.rest) :
+        new LazyString(rope, rest.append(cs::chunks));
   }
 
   /**
@@ -148,7 +203,7 @@ public final class LazyString implements CharSequence {
    * @return True if the given string is a substring of this string, otherwise False.
    */
   public boolean contains(final LazyString cs) {
-    return or(s.tails().map(compose(startsWith().f(cs), fromStream)));
+    return indexOf(cs).isSome();
   }
 
   /**
@@ -168,7 +223,13 @@ public final class LazyString implements CharSequence {
    * @return True if the given string is a prefix of this lazy string, otherwise False.
    */
   public boolean startsWith(final LazyString cs) {
-    return cs.isEmpty() || !isEmpty() && charEqual.eq(head(), cs.head()) && tail().startsWith(cs.tail());
+    final Chars as = new Chars(this);
+    final Chars bs = new Chars(cs);
+    while (bs.hasNext()) {
+      if (!as.hasNext() || as.next() != bs.next())
+        return false;
+    }
+    return true;
   }
 
 
@@ -187,7 +248,7 @@ public final class LazyString implements CharSequence {
    * @return The first character of this string, or error if the string is empty.
    */
   public char head() {
-    return s.head();
+    return rope.isEmpty() ? rest.head().charAt(0) : rope.head().charAt(0);
   }
 
   /**
@@ -196,7 +257,11 @@ public final class LazyString implements CharSequence {
    * @return All but the first character of this string, or error if the string is empty.
    */
   public LazyString tail() {
-    return fromStream(s.tail()._1());
+    if (!rope.isEmpty())
+      return new LazyString(drop(rope, 1), rest);
+    final Chunk c = rest.head();
+    return new LazyString(MK_TREE.empty(),
+        c.length() == 1 ? rest.tail()._1() : Stream.cons(c.subSequence(1, c.length()), rest.tail()));
   }
 
   /**
@@ -205,7 +270,7 @@ public final class LazyString implements CharSequence {
    * @return True if there are no characters in this string, otherwise False.
    */
   public boolean isEmpty() {
-    return s.isEmpty();
+    return rope.isEmpty() && rest.isEmpty();
   }
 
   /**
@@ -214,7 +279,11 @@ public final class LazyString implements CharSequence {
    * @return the reverse of this string.
    */
   public LazyString reverse() {
-    return fromStream(s.reverse());
+    final String s = toStringEager();
+    final char[] cs = new char[s.length()];
+    for (int i = 0; i < cs.length; i++)
+      cs[cs.length - 1 - i] = s.charAt(i);
+    return str(new String(cs));
   }
 
   /**
@@ -224,7 +293,14 @@ public final class LazyString implements CharSequence {
    * @return The first index of the given character in this lazy string, or None if the character is not present.
    */
   public Option<Integer> indexOf(final char c) {
-    return s.indexOf(charEqual.eq(c));
+    int i = 0;
+    for (final Chunk x : chunks()) {
+      final int j = x.s.indexOf(c, x.from);
+      if (j >= 0 && j < x.to)
+        return some(i + j - x.from);
+      i += x.length();
+    }
+    return none();
   }
 
   /**
@@ -234,7 +310,11 @@ public final class LazyString implements CharSequence {
    * @return The first index of the given substring in this lazy string, or None if there is no such substring.
    */
   public Option<Integer> indexOf(final LazyString cs) {
-    return s.substreams().indexOf(eqS.eq(cs.s));
+    if (isStrict() && cs.isStrict()) {
+      final int i = toStringEager().indexOf(cs.toStringEager());
+      return i >= 0 ? some(i) : none();
+    }
+    return toStream().tails().indexOf(t -> startsWith(t, cs));
   }
 
   /**
@@ -248,24 +328,64 @@ public final class LazyString implements CharSequence {
   }
 
   /**
-   * Splits this lazy string by characters matching the given predicate.
+   * Splits this lazy string by characters matching the given predicate. Each substring is strict, and the
+   * stream of them is evaluated as far as this lazy string needs to be to find their ends.
    *
    * @param p A predicate that matches characters to be considered delimiters.
    * @return A stream of the substrings in this lazy string, when separated by the given predicate.
    */
   public Stream<LazyString> split(final F<Character, Boolean> p) {
-    final Stream<Character> findIt = s.dropWhile(p);
-    final P2<Stream<Character>, Stream<Character>> ws = findIt.split(p);
-    return findIt.isEmpty() ? Stream.nil()
-                            : Stream.cons(fromStream(ws._1()), () -> fromStream(ws._2()).split(p));
+    final Stream<Chunk> cs = chunks();
+    return cs.isEmpty() ? Stream.nil() : split(cs, cs.head().from, p);
+  }
+
+  // Splits a stream of chunks from the given index into its first one a chunk at a time, slicing the substrings
+  // out of it rather than copying them.
+  private static Stream<LazyString> split(final Stream<Chunk> chunks, final int from,
+                                          final F<Character, Boolean> p) {
+    Stream<Chunk> cs = chunks;
+    int i = scan(cs.head(), from, p, false);
+    while (i == cs.head().to) {
+      cs = cs.tail()._1();
+      if (cs.isEmpty())
+        return Stream.nil();
+      i = scan(cs.head(), cs.head().from, p, false);
+    }
+    FingerTree<Integer, Chunk> word = MK_TREE.empty();
+    while (true) {
+      final Chunk c = cs.head();
+      final int j = scan(c, i, p, true);
+      word = word.snoc(new Chunk(c.s, i, j));
+      if (j < c.to) {
+        i = j;
+        break;
+      }
+      cs = cs.tail()._1();
+      if (cs.isEmpty())
+        return Stream.single(new LazyString(word, Stream.nil()));
+      i = cs.head().from;
+      if (p.f(cs.head().s.charAt(i)))
+        break;
+    }
+    final Stream<Chunk> rest = cs;
+    final int k = i;
+    return Stream.cons(new LazyString(word, Stream.nil()), () -> split(rest, k, p));
   }
 
   public LazyString map(F<Character, Character> f) {
-    return fromStream(s.map(f));
+    if (!isStrict())
+      return new LazyString(MK_TREE.empty(), chunks().map(c -> c.map(f)));
+    final char[] cs = new char[rope.measure()];
+    int i = 0;
+    for (final Chunk c : rope.toStream()) {
+      for (int j = c.from; j < c.to; j++)
+        cs[i++] = f.f(c.s.charAt(j));
+    }
+    return str(new String(cs));
   }
 
   public LazyString bind(F<Character, LazyString> f) {
-    return fromStream(s.bind(c -> f.f(c).toStream()));
+    return new LazyString(MK_TREE.empty(), toStream().bind(c -> f.f(c).chunks()));
   }
 
   /**
@@ -307,7 +427,7 @@ public final class LazyString implements CharSequence {
    * @return A new lazy string, consisting of the given strings separated by newlines.
    */
   public static LazyString unlines(final Stream<LazyString> str) {
-    return fromStream(join(str.intersperse(str("\n")).map(toStream)));
+    return concat(str.intersperse(str("\n")));
   }
 
   public static F<Stream<LazyString>, LazyString> unlines_() {
@@ -321,7 +441,7 @@ public final class LazyString implements CharSequence {
    * @return A new lazy string, consisting of the given strings with spaces in between.
    */
   public static LazyString unwords(final Stream<LazyString> str) {
-    return fromStream(join(str.intersperse(str(" ")).map(toStream)));
+    return concat(str.intersperse(str(" ")));
   }
 
   /**
@@ -342,6 +462,181 @@ public final class LazyString implements CharSequence {
   public static final F<Stream<Character>, LazyString> fromStream =
           LazyString::fromStream;
 
-  private static final Equal<Stream<Character>> eqS = streamEqual(charEqual);
+  private boolean isStrict() {
+    return rest.isEmpty();
+  }
+
+  private Stream<Chunk> chunks() {
+    return rope.isEmpty() ? rest : rope.toStream().append(rest);
+  }
+
+  // Concatenates the given lazy strings by appending their chunks, as lazily as the given stream.
+  private static LazyString concat(final Stream<LazyString> str) {
+    return new LazyString(MK_TREE.empty(), join(str.map(LazyString::chunks)));
+  }
+
+  private static Stream<Chunk> chunks(final Stream<Character> s) {
+    if (s.isEmpty())
+      return Stream.nil();
+    final StringBuilder builder = new StringBuilder();
+    Stream<Character> t = s;
+    while (t.isNotEmpty() && builder.length() < CHUNK_LENGTH) {
+      builder.append(t.head().charValue());
+      t = t.tail()._1();
+    }
+    final Stream<Character> u = t;
+    return Stream.cons(new Chunk(builder.toString()), () -> chunks(u));
+  }
+
+  // The index from the given one of the first character of the given chunk for which the given predicate is the
+  // given value, or the end of the chunk.
+  private static int scan(final Chunk c, final int from, final F<Character, Boolean> p, final boolean b) {
+    int i = from;
+    while (i < c.to && p.f(c.s.charAt(i)) != b)
+      i++;
+    return i;
+  }
+
+  private static boolean startsWith(final Stream<Character> s, final LazyString cs) {
+    final Chars bs = new Chars(cs);
+    Stream<Character> as = s;
+    while (bs.hasNext()) {
+      if (as.isEmpty() || as.head() != bs.next())
+        return false;
+      as = as.tail()._1();
+    }
+    return true;
+  }
+
+  private static FingerTree<Integer, Chunk> take(final FingerTree<Integer, Chunk> rope, final int n) {
+    if (n <= 0)
+      return MK_TREE.empty();
+    else if (n >= rope.measure())
+      return rope;
+    final P3<FingerTree<Integer, Chunk>, Chunk, FingerTree<Integer, Chunk>> lxr = rope.split1(i -> i > n);
+    final int k = n - lxr._1().measure();
+    return k == 0 ? lxr._1() : lxr._1().snoc(lxr._2().subSequence(0, k));
+  }
+
+  private static FingerTree<Integer, Chunk> drop(final FingerTree<Integer, Chunk> rope, final int n) {
+    if (n <= 0)
+      return rope;
+    else if (n >= rope.measure())
+      return MK_TREE.empty();
+    final Chunk c = rope.head();
+    if (n < c.length())
+      return rope.tail().cons(c.subSequence(n, c.length()));
+    final P3<FingerTree<Integer, Chunk>, Chunk, FingerTree<Integer, Chunk>> lxr = rope.split1(i -> i > n);
+    final Chunk x = lxr._2();
+    final int k = n - lxr._1().measure();
+    return k == 0 ? lxr._3().cons(x) : lxr._3().cons(x.subSequence(k, x.length()));
+  }
+
+  private static Stream<Chunk> take(final Stream<Chunk> cs, final int n) {
+    if (n <= 0 || cs.isEmpty())
+      return Stream.nil();
+    final Chunk c = cs.head();
+    return n <= c.length() ? Stream.single(c.subSequence(0, n)) :
+        Stream.cons(c, () -> take(cs.tail()._1(), n - c.length()));
+  }
+
+  private static Stream<Chunk> drop(final Stream<Chunk> chunks, final int n) {
+    Stream<Chunk> cs = chunks;
+    int k = n;
+    while (k > 0 && cs.isNotEmpty()) {
+      final Chunk c = cs.head();
+      if (k < c.length())
+        return Stream.cons(c.subSequence(k, c.length()), cs.tail());
+      k -= c.length();
+      cs = cs.tail()._1();
+    }
+    return cs;
+  }
+
+  private static FingerTree<Integer, Chunk> concat(final FingerTree<Integer, Chunk> l,
+                                                   final FingerTree<Integer, Chunk> r) {
+    if (l.isEmpty())
+      return r;
+    else if (r.isEmpty())
+      return l;
+    final Chunk x = l.last();
+    final Chunk y = r.head();
+    return x.length() + y.length() <= MERGE_LENGTH ?
+        l.init().snoc(new Chunk(x.toString() + y.toString())).append(r.tail()) : l.append(r);
+  }
+
+  /**
+   * A slice of a string, which is never empty in a lazy string.
+   */
+  private static final class Chunk implements CharSequence {
+    private final String s;
+    private final int from;
+    private final int to;
+
+    Chunk(final String s) {
+      this(s, 0, s.length());
+    }
+
+    Chunk(final String s, final int from, final int to) {
+      this.s = s;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public int length() {
+      return to - from;
+    }
+
+    @Override
+    public char charAt(final int index) {
+      return s.charAt(from + index);
+    }
+
+    @Override
+    public Chunk subSequence(final int start, final int end) {
+      return new Chunk(s, from + start, from + end);
+    }
+
+    Chunk map(final F<Character, Character> f) {
+      final char[] cs = new char[length()];
+      for (int i = 0; i < cs.length; i++)
+        cs[i] = f.f(s.charAt(from + i));
+      return new Chunk(new String(cs));
+    }
+
+    Stream<Character> toStream() {
+      return Stream.unfold(i -> i < to ? some(p(s.charAt(i), i + 1)) : none(), from);
+    }
+
+    @Override
+    public String toString() {
+      return s.substring(from, to);
+    }
+  }
+
+  // Iterates over the characters of a lazy string, a chunk at a time.
+  private static final class Chars {
+    private Stream<Chunk> chunks;
+    private Chunk chunk;
+    private int i;
+
+    Chars(final LazyString cs) {
+      chunks = cs.chunks();
+    }
+
+    boolean hasNext() {
+      while ((chunk == null || i == chunk.to) && chunks.isNotEmpty()) {
+        chunk = chunks.head();
+        i = chunk.from;
+        chunks = chunks.tail()._1();
+      }
+      return chunk != null && i < chunk.to;
+    }
+
+    char next() {
+      return chunk.s.charAt(i++);
+    }
+  }
 
 }
@@ -21,7 +21,6 @@ import fj.Function;
 
 import static fj.Function.*;
 import static fj.P.p;
-import static fj.P.p2;
 import static fj.Unit.unit;
 import static fj.data.Array.mkArray;
 import static fj.data.List.Buffer.*;
@@ -46,7 +45,9 @@ import fj.data.vector.V2;
 import fj.function.Effect1;
 
 import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -56,6 +57,9 @@ import java.util.NoSuchElementException;
  * @version %build.number%
  */
 public abstract class List<A> implements Iterable<A> {
+  // The cached hash code of this list, or zero if it has not been computed yet.
+  private int hash;
+
   private List() {
 
   }
@@ -66,7 +70,7 @@ public abstract class List<A> implements Iterable<A> {
    * @return A iterator for this list.
    */
   public final Iterator<A> iterator() {
-    return toCollection().iterator();
+    return new Iter<>(this);
   }
 
   /**
@@ -89,7 +93,10 @@ public abstract class List<A> implements Iterable<A> {
    * @return The length of this list.
    */
   public final int length() {
-    return foldLeft((i, a) -> i + 1, 0);
+    int n = 0;
+    for (List<A> xs = this; xs instanceof Cons; xs = ((Cons<A>) xs).tail)
+      n++;
+    return n;
   }
 
   /**
@@ -280,8 +287,8 @@ public abstract class List<A> implements Iterable<A> {
   public final <B> List<B> map(final F<A, B> f) {
     final Buffer<B> bs = empty();
 
-    for (List<A> xs = this; xs.isNotEmpty(); xs = xs.tail()) {
-      bs.snoc(f.f(xs.head()));
+    for (List<A> xs = this; xs instanceof Cons; xs = ((Cons<A>) xs).tail) {
+      bs.snoc(f.f(((Cons<A>) xs).head));
     }
 
     return bs.toList();
@@ -321,15 +328,22 @@ public abstract class List<A> implements Iterable<A> {
    */
   public final List<A> filter(final F<A, Boolean> f) {
     final Buffer<A> b = empty();
-
-    for (List<A> xs = this; xs.isNotEmpty(); xs = xs.tail()) {
-      final A h = xs.head();
-      if (f.f(h)) {
-        b.snoc(h);
+    // The run of kept elements since the last dropped one is only copied once a later element is dropped,
+    // so the longest suffix of kept elements is shared with this list.
+    List<A> kept = this;
+
+    for (List<A> xs = this; xs instanceof Cons; ) {
+      final Cons<A> c = (Cons<A>) xs;
+      xs = c.tail;
+      if (!f.f(c.head)) {
+        for (List<A> ys = kept; ys != c; ys = ((Cons<A>) ys).tail) {
+          b.snoc(((Cons<A>) ys).head);
+        }
+        kept = xs;
       }
     }
 
-    return b.toList();
+    return b.prependToList(kept);
   }
 
   /**
@@ -704,7 +718,7 @@ public abstract class List<A> implements Iterable<A> {
    * @return A new list that has appended the given list.
    */
   public final List<A> append(final List<A> as) {
-    return fromList(this).prependToList(as);
+    return as.isEmpty() ? this : fromList(this).prependToList(as);
   }
 
   /**
@@ -726,7 +740,18 @@ public abstract class List<A> implements Iterable<A> {
    * @return The final result after the right-fold reduction.
    */
   public final <B> B foldRight(final F2<A, B, B> f, final B b) {
-    return reverse().foldLeft(flip(f), b);
+    final Object[] as = new Object[length()];
+    int i = 0;
+    for (List<A> xs = this; xs instanceof Cons; xs = ((Cons<A>) xs).tail)
+      as[i++] = ((Cons<A>) xs).head;
+
+    B x = b;
+    while (i > 0) {
+      @SuppressWarnings("unchecked")
+      final A a = (A) as[--i];
+      x = f.f(a, x);
+    }
+    return x;
   }
 
   /**
@@ -760,8 +785,8 @@ public abstract class List<A> implements Iterable<A> {
   public final <B> B foldLeft(final F2<B, A, B> f, final B b) {
     B x = b;
 
-    for (List<A> xs = this; !xs.isEmpty(); xs = xs.tail()) {
-      x = f.f(x, xs.head());
+    for (List<A> xs = this; xs instanceof Cons; xs = ((Cons<A>) xs).tail) {
+      x = f.f(x, ((Cons<A>) xs).head);
     }
 
     return x;
@@ -827,14 +852,14 @@ public abstract class List<A> implements Iterable<A> {
    * @return A new list with a length the same, or less than, this list.
    */
   public final List<A> take(final int i) {
-    Buffer<A> result = empty();
-    List<A> list = this;
-    int index = i;
-    while (index > 0 && list.isNotEmpty()) {
-      result.snoc(list.head());
-      list = list.tail();
-      index--;
-    }
+    List<A> end = this;
+    for (int c = 0; c < i && end instanceof Cons; c++)
+      end = ((Cons<A>) end).tail;
+    if (end.isEmpty())
+      return this;
+    final Buffer<A> result = empty();
+    for (List<A> xs = this; xs != end; xs = ((Cons<A>) xs).tail)
+      result.snoc(((Cons<A>) xs).head);
     return result.toList();
   }
 
@@ -976,6 +1001,78 @@ public abstract class List<A> implements Iterable<A> {
     }
   }
 
+  /**
+   * Sorts this list in parallel according to the given order, using the given strategy and the
+   * {@link Array#DEFAULT_GRAIN_SIZE default grain size}. The sort is stable.
+   *
+   * @param s The strategy with which to sort and merge chunks of this list.
+   * @param o The order over the elements of this list.
+   * @return A sorted list according to the given order.
+   */
+  public final List<A> parSort(final Strategy<Unit> s, final Ord<A> o) {
+    return parSort(s, o, Array.DEFAULT_GRAIN_SIZE);
+  }
+
+  /**
+   * Sorts this list in parallel according to the given order, using the given strategy. The elements are
+   * copied to an array, whose chunks of at most <code>grainSize</code> elements are sorted in parallel, then
+   * merged pairwise in rounds, the merges of each round running in parallel. The sort is stable.
+   *
+   * @param s         The strategy with which to sort and merge chunks of this list.
+   * @param o         The order over the elements of this list.
+   * @param grainSize The number of elements sorted sequentially by a single task.
+   * @return A sorted list according to the given order.
+   */
+  @SuppressWarnings("unchecked")
+  public final List<A> parSort(final Strategy<Unit> s, final Ord<A> o, final int grainSize) {
+    if (grainSize < 1)
+      throw error("Grain size must be positive: " + grainSize);
+    final Comparator<Object> c = (Comparator<Object>) o.toComparator();
+    Object[] xs = toArrayObject();
+    Object[] buffer = new Object[xs.length];
+    final int n = xs.length;
+    final Object[] chunks = xs;
+    s.parMap1(from -> {
+      Arrays.sort(chunks, from, (int) Math.min((long) from + grainSize, n), c);
+      return unit();
+    }, chunkStarts(n, grainSize));
+    for (long width = grainSize; width < n; width *= 2) {
+      final Object[] src = xs;
+      final Object[] dst = buffer;
+      final long w = width;
+      s.parMap1(from -> {
+        merge(src, dst, from, (int) Math.min(from + w, n), (int) Math.min(from + 2 * w, n), c);
+        return unit();
+      }, chunkStarts(n, 2 * width));
+      buffer = src;
+      xs = dst;
+    }
+    List<A> r = nil();
+    for (int i = n - 1; i >= 0; i--)
+      r = cons((A) xs[i], r);
+    return r;
+  }
+
+  private static List<Integer> chunkStarts(final int length, final long chunkSize) {
+    final Buffer<Integer> buf = empty();
+    for (long i = 0; i < length; i += chunkSize)
+      buf.snoc((int) i);
+    return buf.toList();
+  }
+
+  private static void merge(final Object[] src, final Object[] dst, final int from, final int mid, final int to,
+                            final Comparator<Object> c) {
+    int i = from;
+    int j = mid;
+    int k = from;
+    while (i < mid && j < to)
+      dst[k++] = c.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+    while (i < mid)
+      dst[k++] = src[i++];
+    while (j < to)
+      dst[k++] = src[j++];
+  }
+
   /**
    * Zips this list with the given list using the given function to produce a new list. If this list
    * and the given list have different lengths, then the longer list is normalised so this function
@@ -985,17 +1082,8 @@ public abstract class List<A> implements Iterable<A> {
    * @param f  The function to zip this list and the given list with.
    * @return A new list with a length the same as the shortest of this list and the given list.
    */
-  public final <B, C> List<C> zipWith(List<B> bs, final F<A, F<B, C>> f) {
-    final Buffer<C> buf = empty();
-    List<A> as = this;
-
-    while (as.isNotEmpty() && bs.isNotEmpty()) {
-      buf.snoc(f.f(as.head()).f(bs.head()));
-      as = as.tail();
-      bs = bs.tail();
-    }
-
-    return buf.toList();
+  public final <B, C> List<C> zipWith(final List<B> bs, final F<A, F<B, C>> f) {
+    return zipWith(bs, (a, b) -> f.f(a).f(b));
   }
 
   /**
@@ -1008,7 +1096,19 @@ public abstract class List<A> implements Iterable<A> {
    * @return A new list with a length the same as the shortest of this list and the given list.
    */
   public final <B, C> List<C> zipWith(final List<B> bs, final F2<A, B, C> f) {
-    return zipWith(bs, curry(f));
+    final Buffer<C> buf = empty();
+    List<A> xs = this;
+    List<B> ys = bs;
+
+    while (xs instanceof Cons && ys instanceof Cons) {
+      final Cons<A> x = (Cons<A>) xs;
+      final Cons<B> y = (Cons<B>) ys;
+      buf.snoc(f.f(x.head, y.head));
+      xs = x.tail;
+      ys = y.tail;
+    }
+
+    return buf.toList();
   }
 
   /**
@@ -1028,8 +1128,7 @@ public abstract class List<A> implements Iterable<A> {
    * @return A new list with a length the same as the shortest of this list and the given list.
    */
   public final <B> List<P2<A, B>> zip(final List<B> bs) {
-    final F<A, F<B, P2<A, B>>> __2 = p2();
-    return zipWith(bs, __2);
+    return zipWith(bs, (a, b) -> p(a, b));
   }
 
   /**
@@ -1507,27 +1606,7 @@ public abstract class List<A> implements Iterable<A> {
   public final Collection<A> toCollection() {
     return new AbstractCollection<A>() {
       public Iterator<A> iterator() {
-        return new Iterator<A>() {
-          private List<A> xs = List.this;
-
-          public boolean hasNext() {
-            return xs.isNotEmpty();
-          }
-
-          public A next() {
-            if (xs.isEmpty())
-              throw new NoSuchElementException();
-            else {
-              final A a = xs.head();
-              xs = xs.tail();
-              return a;
-            }
-          }
-
-          public void remove() {
-            throw new UnsupportedOperationException();
-          }
-        };
+        return List.this.iterator();
       }
 
       public int size() {
@@ -1536,6 +1615,30 @@ public abstract class List<A> implements Iterable<A> {
     };
   }
 
+  private static final class Iter<A> implements Iterator<A> {
+    private List<A> xs;
+
+    Iter(final List<A> xs) {
+      this.xs = xs;
+    }
+
+    public boolean hasNext() {
+      return xs instanceof Cons;
+    }
+
+    public A next() {
+      if (!(xs instanceof Cons))
+        throw new NoSuchElementException();
+      final Cons<A> c = (Cons<A>) xs;
+      xs = c.tail;
+      return c.head;
+    }
+
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+
   private static final class Nil<A> extends List<A> {
     public static final Nil<Object> INSTANCE = new Nil<>();
 
@@ -2099,12 +2202,18 @@ public abstract class List<A> implements Iterable<A> {
     /**
      * Compute the hash code from this list as a function of the hash codes of its members.
      * Delegates to Hash.listHash, using the anyHash() rule, which uses the hash codes of the contents.
+     * The hash code is computed once, then cached.
      *
      * @return the hash code for this list.
      */
     @Override
     public final int hashCode() {
-        return Hash.listHash(Hash.<A>anyHash()).hash(this);
+        int h = hash;
+        if (h == 0) {
+            h = Hash.listHash(Hash.<A>anyHash()).hash(this);
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -2,15 +2,12 @@ package fj.data;
 
 import static fj.Bottom.error;
 
-import fj.Equal;
 import fj.F;
 
 import static fj.Monoid.naturalAdditionMonoid;
 import static fj.Monoid.naturalMultiplicationMonoid;
 import static fj.Function.curry;
 
-import fj.Hash;
-import fj.Show;
 import fj.data.vector.V2;
 import fj.data.vector.V;
 
@@ -18,15 +15,35 @@ import java.math.BigInteger;
 
 /**
  * Represents a natural number (zero, one, two, etc.)
+ *
+ * A natural number that fits in a <code>long</code> is held as one, and its arithmetic does not allocate a
+ * <code>BigInteger</code>; it is promoted to a <code>BigInteger</code> when an operation overflows.
  */
-public final class Natural extends Number {
+public final class Natural extends Number implements Comparable<Natural> {
+  // The value of this number if it does not fit in a long, otherwise null.
   private final BigInteger value;
+  private final long small;
   private static final long serialVersionUID = -588673650944359682L;
 
   private Natural(final BigInteger i) {
-    if (i.compareTo(BigInteger.ZERO) < 0)
+    if (i.signum() < 0)
       throw error("Natural less than zero");
     value = i;
+    small = 0;
+  }
+
+  private Natural(final long i) {
+    value = null;
+    small = i;
+  }
+
+  private static Natural of(final BigInteger i) {
+    return i.bitLength() < 64 ? new Natural(i.longValue()) : new Natural(i);
+  }
+
+  // Reads a natural number serialized before small values were held as longs.
+  private Object readResolve() {
+    return value == null ? this : of(value);
   }
 
   /**
@@ -36,9 +53,9 @@ public final class Natural extends Number {
    * @return An optional natural number, or none if the given BigInteger is less than zero.
    */
   public static Option<Natural> natural(final BigInteger i) {
-    return i.compareTo(BigInteger.ZERO) < 0
+    return i.signum() < 0
            ? Option.none()
-           : Option.some(new Natural(i));
+           : Option.some(of(i));
   }
 
   /**
@@ -54,7 +71,7 @@ public final class Natural extends Number {
    * @return An optional natural number, or none if the given long is less than zero.
    */
   public static Option<Natural> natural(final long i) {
-    return natural(BigInteger.valueOf(i));
+    return i < 0 ? Option.none() : Option.some(new Natural(i));
   }
 
   /**
@@ -73,7 +90,7 @@ public final class Natural extends Number {
    * @return the successor of this natural number
    */
   public Natural succ() {
-    return add(ONE);
+    return value == null && small != Long.MAX_VALUE ? new Natural(small + 1) : add(ONE);
   }
 
   /**
@@ -110,7 +127,12 @@ public final class Natural extends Number {
    * @return the sum of the two natural numbers.
    */
   public Natural add(final Natural n) {
-    return natural(n.value.add(value)).some();
+    if (value == null && n.value == null) {
+      final long r = small + n.small;
+      if (r >= 0)
+        return new Natural(r);
+    }
+    return of(n.bigIntegerValue().add(bigIntegerValue()));
   }
 
   /**
@@ -126,7 +148,9 @@ public final class Natural extends Number {
    * @return The difference between the two numbers, if this number is larger than the given one. Otherwise none.
    */
   public Option<Natural> subtract(final Natural n) {
-    return natural(value.subtract(n.value));
+    return value == null && n.value == null
+           ? natural(small - n.small)
+           : natural(bigIntegerValue().subtract(n.bigIntegerValue()));
   }
 
   /**
@@ -142,7 +166,12 @@ public final class Natural extends Number {
    * @return The product of the two numbers.
    */
   public Natural multiply(final Natural n) {
-    return natural(n.value.multiply(value)).some();
+    if (value == null && n.value == null) {
+      final long r = small * n.small;
+      if (((small | n.small) >>> 31) == 0 || r >= 0 && (small == 0 || r / small == n.small))
+        return new Natural(r);
+    }
+    return of(n.bigIntegerValue().multiply(bigIntegerValue()));
   }
 
   /**
@@ -165,7 +194,9 @@ public final class Natural extends Number {
    *         that divides this number.
    */
   public Natural divide(final Natural n) {
-    return natural(value.divide(n.value)).some();
+    return value == null && n.value == null
+           ? new Natural(small / n.small)
+           : of(bigIntegerValue().divide(n.bigIntegerValue()));
   }
 
   /**
@@ -175,7 +206,9 @@ public final class Natural extends Number {
    * @return The remainder of division of this number by the given number.
    */
   public Natural mod(final Natural n) {
-    return natural(value.mod(n.value)).some();
+    return value == null && n.value == null
+           ? new Natural(small % n.small)
+           : of(bigIntegerValue().mod(n.bigIntegerValue()));
   }
 
   /**
@@ -191,8 +224,10 @@ public final class Natural extends Number {
    * @return The quotient and the remainder, in that order.
    */
   public V2<Natural> divmod(final Natural n) {
-    final BigInteger[] x = value.divideAndRemainder(n.value);
-    return V.v(natural(x[0]).some(), natural(x[1]).some());
+    if (value == null && n.value == null)
+      return V.v(new Natural(small / n.small), new Natural(small % n.small));
+    final BigInteger[] x = bigIntegerValue().divideAndRemainder(n.bigIntegerValue());
+    return V.v(of(x[0]), of(x[1]));
   }
 
   /**
@@ -208,7 +243,7 @@ public final class Natural extends Number {
    * @return the BigInteger value of this natural number.
    */
   public BigInteger bigIntegerValue() {
-    return value;
+    return value == null ? BigInteger.valueOf(small) : value;
   }
 
   /**
@@ -217,7 +252,7 @@ public final class Natural extends Number {
    * @return the long value of this natural number.
    */
   public long longValue() {
-    return value.longValue();
+    return value == null ? small : value.longValue();
   }
 
   /**
@@ -226,7 +261,7 @@ public final class Natural extends Number {
    * @return the float value of this natural number.
    */
   public float floatValue() {
-    return value.floatValue();
+    return value == null ? (float) small : value.floatValue();
   }
 
   /**
@@ -235,7 +270,7 @@ public final class Natural extends Number {
    * @return the double value of this natural number.
    */
   public double doubleValue() {
-    return value.doubleValue();
+    return value == null ? (double) small : value.doubleValue();
   }
 
   /**
@@ -244,7 +279,7 @@ public final class Natural extends Number {
    * @return the int value of this natural number.
    */
   public int intValue() {
-    return value.intValue();
+    return value == null ? (int) small : value.intValue();
   }
 
   /**
@@ -293,18 +328,43 @@ public final class Natural extends Number {
   }
 
 
+  /**
+   * Compares this natural number with the given one.
+   *
+   * @param n A natural number to compare this one with.
+   * @return A negative number, zero or a positive number as this number is less than, equal to or greater than the
+   *         given one.
+   */
+  @Override
+  public int compareTo(final Natural n) {
+    return value == null
+           ? n.value == null ? Long.compare(small, n.small) : -1
+           : n.value == null ? 1 : value.compareTo(n.value);
+  }
+
+  /**
+   * The hash code of this natural number, which is that of its <code>BigInteger</code> value.
+   */
   @Override
   public int hashCode() {
-    return Hash.naturalHash.hash(this);
+    if (value != null)
+      return value.hashCode();
+    final int hi = (int) (small >>> 32);
+    return hi == 0 ? (int) small : 31 * hi + (int) small;
   }
 
   @Override
   public boolean equals(final Object that) {
-    return Equal.equals0(Natural.class, this, that, Equal.naturalEqual);
+    if (this == that)
+      return true;
+    if (!(that instanceof Natural))
+      return false;
+    final Natural n = (Natural) that;
+    return value == null ? n.value == null && small == n.small : value.equals(n.value);
   }
 
   @Override
   public String toString() {
-    return Show.naturalShow.showS(this);
+    return value == null ? Long.toString(small) : value.toString();
   }
 }
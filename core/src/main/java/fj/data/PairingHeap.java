@@ -0,0 +1,309 @@
+package fj.data;
+
+import fj.F;
+import fj.F2;
+import fj.Ord;
+import fj.Ordering;
+import fj.P;
+import fj.P2;
+import fj.Show;
+
+import java.util.ArrayDeque;
+
+import static fj.data.Option.none;
+import static fj.data.Option.some;
+
+/**
+ * A priority queue backed by a pairing heap and ordered by an {@link Ord} of the priorities, offering the
+ * operations of {@link PriorityQueue}. The node with the highest priority is at the top, and nodes of the same
+ * priority enqueued into the same queue are returned FIFO (first in, first out). Use {@link Ord#reverse()} to put
+ * the lowest priority at the top.
+ *
+ * Enqueueing, melding two queues and finding the top take O(1) time, and dequeueing takes O(log n) amortised time.
+ * As for any amortised persistent structure, the bound for dequeueing holds when each version of a queue is
+ * dequeued at most once.
+ */
+public final class PairingHeap<K, A> {
+
+  private final Ord<K> ord;
+  // The top node, or null if this queue is empty.
+  private final Node<K, A> root;
+  private final int size;
+  // The sequence number of the next node enqueued, which orders nodes of the same priority.
+  private final long next;
+
+  private PairingHeap(final Ord<K> ord, final Node<K, A> root, final int size, final long next) {
+    this.ord = ord;
+    this.root = root;
+    this.size = size;
+    this.next = next;
+  }
+
+  private static final class Node<K, A> {
+    private final K key;
+    private final A value;
+    private final long seq;
+    private final List<Node<K, A>> children;
+
+    Node(final K key, final A value, final long seq, final List<Node<K, A>> children) {
+      this.key = key;
+      this.value = value;
+      this.seq = seq;
+      this.children = children;
+    }
+  }
+
+  /**
+   * Creates an empty priority queue.
+   *
+   * @param ord An order of the priorities.
+   */
+  public static <K, A> PairingHeap<K, A> empty(final Ord<K> ord) {
+    return new PairingHeap<>(ord, null, 0, 0);
+  }
+
+  /**
+   * An empty priority queue with integer priorities.
+   */
+  public static <A> PairingHeap<Integer, A> emptyInt() {
+    return empty(Ord.intOrd);
+  }
+
+  /**
+   * Maps the values in each node with function f.  This operation takes O(n).
+   */
+  public <B> PairingHeap<K, B> map(final F<A, B> f) {
+    return rebuild(n -> true, f);
+  }
+
+  /**
+   * Filters nodes based on the value inside each node.  This operation takes O(n).
+   */
+  public PairingHeap<K, A> filterValues(final F<A, Boolean> f) {
+    return rebuild(n -> f.f(n.value), a -> a);
+  }
+
+  /**
+   * Filters the nodes based on the priority of each node.  This operation takes O(n).
+   */
+  public PairingHeap<K, A> filterKeys(final F<K, Boolean> f) {
+    return rebuild(n -> f.f(n.key), a -> a);
+  }
+
+  /**
+   * Is the queue empty?
+   */
+  public boolean isEmpty() {
+    return root == null;
+  }
+
+  /**
+   * The number of nodes in the queue.
+   */
+  public int length() {
+    return size;
+  }
+
+  /**
+   * If the queue is not empty, returns the node with highest priority otherwise returns nothing.  This operation
+   * takes O(1).
+   */
+  public Option<P2<K, A>> top() {
+    return root == null ? none() : some(P.p(root.key, root.value));
+  }
+
+  /**
+   * Returns all the elements of the queue with the highest (same) priority.
+   */
+  public List<P2<K, A>> topN() {
+    return root == null ? List.nil() : toStream().takeWhile(p -> ord.eq(p._1(), root.key)).toList();
+  }
+
+  /**
+   * Adds a node with priority k and value a.  This operation takes O(1).
+   */
+  public PairingHeap<K, A> enqueue(final K k, final A a) {
+    return new PairingHeap<>(ord, link(root, new Node<>(k, a, next, List.nil())), size + 1, next + 1);
+  }
+
+  /**
+   * Adds nodes using the list of products with priority k and value a.  This operation takes O(list.length()).
+   */
+  public PairingHeap<K, A> enqueue(final List<P2<K, A>> list) {
+    return list.foldLeft((pq, p) -> pq.enqueue(p._1(), p._2()), this);
+  }
+
+  /**
+   * Adds nodes using the iterable of products with priority k and value a.
+   */
+  public PairingHeap<K, A> enqueue(final Iterable<P2<K, A>> it) {
+    PairingHeap<K, A> result = this;
+    for (final P2<K, A> p : it) {
+      result = result.enqueue(p);
+    }
+    return result;
+  }
+
+  /**
+   * Adds a node with priority k and value a.  This operation takes O(1).
+   */
+  public PairingHeap<K, A> enqueue(final P2<K, A> p) {
+    return enqueue(p._1(), p._2());
+  }
+
+  /**
+   * Melds this queue with the given one, which must have the same order of priorities.  This operation takes O(1).
+   * Nodes of the same priority from the two queues are not returned in any particular order.
+   */
+  public PairingHeap<K, A> meld(final PairingHeap<K, A> q) {
+    return new PairingHeap<>(ord, link(root, q.root), size + q.size, Math.max(next, q.next));
+  }
+
+  /**
+   * Does the priority k exist already?
+   */
+  public boolean contains(final K k) {
+    final ArrayDeque<Node<K, A>> stack = new ArrayDeque<>();
+    if (root != null)
+      stack.push(root);
+    while (!stack.isEmpty()) {
+      final Node<K, A> n = stack.pop();
+      final Ordering o = ord.compare(n.key, k);
+      if (o == Ordering.EQ)
+        return true;
+      // The nodes below a node do not have a higher priority than it.
+      if (o == Ordering.GT)
+        n.children.foreachDoEffect(stack::push);
+    }
+    return false;
+  }
+
+  /**
+   * Removes the node with the highest priority.  This operation takes O(log n) amortised.
+   */
+  public PairingHeap<K, A> dequeue() {
+    return root == null ? this : new PairingHeap<>(ord, mergePairs(root.children), size - 1, next);
+  }
+
+  /**
+   * Returns a tuple of the node with the highest priority and the rest of the priority queue.
+   */
+  public P2<Option<P2<K, A>>, PairingHeap<K, A>> topDequeue() {
+    return unqueue(P.p(none(), this), (top, tail) -> P.p(some(top), tail));
+  }
+
+  /**
+   * Performs a reduction on this priority queue using the given arguments.
+   *
+   * @param empty  The value to return if this queue is empty.
+   * @param topDequeue The function to apply to the top priority element and the tail of the queue (without its top element).
+   * @return A reduction on this queue.
+   */
+  public <B> B unqueue(final B empty, final F2<P2<K, A>, PairingHeap<K, A>, B> topDequeue) {
+    return root == null ? empty : topDequeue.f(P.p(root.key, root.value), dequeue());
+  }
+
+  /**
+   * Removes the top n elements with the highest priority.
+   */
+  public PairingHeap<K, A> dequeue(final int n) {
+    PairingHeap<K, A> result = this;
+    for (int i = n; i > 0; i--) {
+      result = result.dequeue();
+    }
+    return result;
+  }
+
+  /**
+   * Does the top of the queue have lower priority than k?
+   */
+  public boolean isLessThan(final Ord<K> ok, final K k) {
+    return top().option(true, p -> ok.isLessThan(p._1(), k));
+  }
+
+  public boolean isGreaterThan(final Ord<K> ok, final K k) {
+    return top().option(false, p -> ok.isGreaterThan(p._1(), k));
+  }
+
+  public boolean isEqual(final Ord<K> ok, final K k) {
+    return top().option(false, p -> ok.eq(p._1(), k));
+  }
+
+  /**
+   * Returns a stream of products with priority k and value a.
+   */
+  public Stream<P2<K, A>> toStream() {
+    return unqueue(Stream.nil(), (top, tail) -> Stream.cons(top, () -> tail.toStream()));
+  }
+
+  /**
+   * Returns a list of products with priority k and value a.
+   */
+  public List<P2<K, A>> toList() {
+    final List.Buffer<P2<K, A>> b = List.Buffer.empty();
+    for (PairingHeap<K, A> q = this; q.root != null; q = q.dequeue()) {
+      b.snoc(P.p(q.root.key, q.root.value));
+    }
+    return b.toList();
+  }
+
+  public String toString() {
+    return Show.pairingHeapShow(Show.<K>anyShow(), Show.<A>anyShow()).showS(this);
+  }
+
+  // Links two heaps, the root with the lower priority becoming the first child of the other.
+  private Node<K, A> link(final Node<K, A> a, final Node<K, A> b) {
+    if (a == null)
+      return b;
+    if (b == null)
+      return a;
+    final Ordering o = ord.compare(a.key, b.key);
+    return o == Ordering.GT || o == Ordering.EQ && a.seq <= b.seq
+        ? new Node<>(a.key, a.value, a.seq, a.children.cons(b))
+        : new Node<>(b.key, b.value, b.seq, b.children.cons(a));
+  }
+
+  // Links the given heaps in pairs from left to right, then links the pairs from right to left.
+  @SuppressWarnings("unchecked")
+  private Node<K, A> mergePairs(final List<Node<K, A>> ns) {
+    if (ns.isEmpty())
+      return null;
+    final Object[] pairs = new Object[(ns.length() + 1) / 2];
+    int n = 0;
+    for (List<Node<K, A>> xs = ns; xs.isNotEmpty(); ) {
+      final Node<K, A> a = xs.head();
+      xs = xs.tail();
+      if (xs.isEmpty())
+        pairs[n++] = a;
+      else {
+        pairs[n++] = link(a, xs.head());
+        xs = xs.tail();
+      }
+    }
+    Node<K, A> r = (Node<K, A>) pairs[n - 1];
+    for (int i = n - 2; i >= 0; i--) {
+      r = link((Node<K, A>) pairs[i], r);
+    }
+    return r;
+  }
+
+  // Builds a queue of the kept nodes with mapped values, keeping their sequence numbers and so their order.
+  private <B> PairingHeap<K, B> rebuild(final F<Node<K, A>, Boolean> keep, final F<A, B> f) {
+    final PairingHeap<K, B> empty = empty(ord);
+    Node<K, B> r = null;
+    int n = 0;
+    final ArrayDeque<Node<K, A>> stack = new ArrayDeque<>();
+    if (root != null)
+      stack.push(root);
+    while (!stack.isEmpty()) {
+      final Node<K, A> x = stack.pop();
+      x.children.foreachDoEffect(stack::push);
+      if (keep.f(x)) {
+        r = empty.link(r, new Node<>(x.key, f.f(x.value), x.seq, List.nil()));
+        n++;
+      }
+    }
+    return new PairingHeap<>(ord, r, n, next);
+  }
+
+}
@@ -0,0 +1,699 @@
+package fj.data;
+
+import fj.Equal;
+import fj.F;
+import fj.F2;
+import fj.Hash;
+import fj.P;
+import fj.P2;
+import fj.Show;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static fj.Bottom.error;
+
+/**
+ * An immutable vector, held in a 32-way relaxed radix balanced tree (RRB-tree) followed by a tail buffer of up to
+ * 32 elements. Indexed access and update take O(log<sub>32</sub> n) time, appending an element takes amortised
+ * constant time, and appending two vectors or splitting one take O(log n) time.
+ *
+ * @see Builder
+ */
+public final class PersistentVector<A> implements Iterable<A> {
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  // The number of children a node may have over the fewest that could hold their contents before appending two
+  // vectors repacks the nodes along the seam.
+  private static final int EXTRA = 2;
+  private static final int MAX_LEVELS = 7;
+
+  private static final Object[] EMPTY_NODE = new Object[0];
+  private static final PersistentVector<Object> EMPTY = new PersistentVector<>(EMPTY_NODE, 0, 0, EMPTY_NODE);
+
+  // The elements before the tail, in a tree whose leaves are arrays of elements at shift zero. The other nodes are
+  // arrays of children, followed by an int[] of the cumulative sizes of the children unless every child but the
+  // last one is full, in which case the children are found by their index bits alone.
+  private final Object[] root;
+  private final int shift;
+  private final int treeSize;
+  private final Object[] tail;
+
+  private PersistentVector(final Object[] root, final int shift, final int treeSize, final Object[] tail) {
+    this.root = root;
+    this.shift = shift;
+    this.treeSize = treeSize;
+    this.tail = tail;
+  }
+
+  /**
+   * An empty vector.
+   *
+   * @return An empty vector.
+   */
+  @SuppressWarnings("unchecked")
+  public static <A> PersistentVector<A> empty() {
+    return (PersistentVector<A>) EMPTY;
+  }
+
+  /**
+   * Constructs a vector from the given elements.
+   *
+   * @param as The elements to construct a vector with.
+   * @return A vector with the given elements.
+   */
+  @SafeVarargs
+  public static <A> PersistentVector<A> vector(final A... as) {
+    final Builder<A> b = new Builder<>();
+    for (final A a : as)
+      b.snoc(a);
+    return b.build();
+  }
+
+  /**
+   * Constructs a vector from the given iterable.
+   *
+   * @param as The iterable to construct a vector with.
+   * @return A vector with the elements of the given iterable.
+   */
+  public static <A> PersistentVector<A> iterableVector(final Iterable<A> as) {
+    return new Builder<A>().append(as).build();
+  }
+
+  /**
+   * The number of elements in this vector.
+   *
+   * @return The number of elements in this vector.
+   */
+  public int length() {
+    return treeSize + tail.length;
+  }
+
+  /**
+   * Returns <code>true</code> if this vector is empty, <code>false</code> otherwise.
+   *
+   * @return <code>true</code> if this vector is empty, <code>false</code> otherwise.
+   */
+  public boolean isEmpty() {
+    return length() == 0;
+  }
+
+  /**
+   * Returns <code>false</code> if this vector is empty, <code>true</code> otherwise.
+   *
+   * @return <code>false</code> if this vector is empty, <code>true</code> otherwise.
+   */
+  public boolean isNotEmpty() {
+    return length() != 0;
+  }
+
+  /**
+   * Returns the element at the given index, or fails if the index is out of range.
+   *
+   * @param i The index of the element to return.
+   * @return The element at the given index.
+   */
+  @SuppressWarnings("unchecked")
+  public A index(final int i) {
+    checkIndex(i);
+    if (i >= treeSize)
+      return (A) tail[i - treeSize];
+    Object[] node = root;
+    int j = i;
+    for (int s = shift; s > 0; s -= BITS) {
+      int c = j >>> s;
+      if (relaxed(node)) {
+        final int[] sizes = sizes(node);
+        while (sizes[c] <= j)
+          c++;
+        if (c > 0)
+          j -= sizes[c - 1];
+      } else
+        j -= c << s;
+      node = (Object[]) node[c];
+    }
+    return (A) node[j];
+  }
+
+  /**
+   * Returns a vector with the element at the given index replaced, or fails if the index is out of range.
+   *
+   * @param i The index of the element to replace.
+   * @param a The element to put at the given index.
+   * @return A vector with the element at the given index replaced.
+   */
+  public PersistentVector<A> update(final int i, final A a) {
+    checkIndex(i);
+    if (i >= treeSize) {
+      final Object[] t = tail.clone();
+      t[i - treeSize] = a;
+      return new PersistentVector<>(root, shift, treeSize, t);
+    }
+    return new PersistentVector<>(update(root, shift, i, a), shift, treeSize, tail);
+  }
+
+  /**
+   * The first element of this vector, or fails for the empty vector.
+   *
+   * @return The first element of this vector.
+   */
+  public A head() {
+    return index(0);
+  }
+
+  /**
+   * The last element of this vector, or fails for the empty vector.
+   *
+   * @return The last element of this vector.
+   */
+  public A last() {
+    return index(length() - 1);
+  }
+
+  /**
+   * Appends (snoc) the given element to this vector in amortised constant time.
+   *
+   * @param a The element to append to this vector.
+   * @return A vector with the given element appended.
+   */
+  public PersistentVector<A> snoc(final A a) {
+    if (tail.length < WIDTH) {
+      final Object[] t = Arrays.copyOf(tail, tail.length + 1);
+      t[tail.length] = a;
+      return new PersistentVector<>(root, shift, treeSize, t);
+    }
+    final PersistentVector<A> v = pushTail();
+    return new PersistentVector<>(v.root, v.shift, v.treeSize, new Object[]{a});
+  }
+
+  /**
+   * Prepends (cons) the given element to this vector in O(log n) time.
+   *
+   * @param a The element to prepend to this vector.
+   * @return A vector with the given element prepended.
+   */
+  public PersistentVector<A> cons(final A a) {
+    return new PersistentVector<A>(EMPTY_NODE, 0, 0, new Object[]{a}).append(this);
+  }
+
+  /**
+   * Appends the given vector to this vector in O(log n) time.
+   *
+   * @param as The vector to append to this one.
+   * @return A vector with the elements of this vector followed by those of the given one.
+   */
+  public PersistentVector<A> append(final PersistentVector<A> as) {
+    if (as.isEmpty())
+      return this;
+    if (isEmpty())
+      return as;
+    if (as.treeSize == 0) {
+      final int room = WIDTH - tail.length;
+      final Object[] t = Arrays.copyOf(tail, Math.min(WIDTH, tail.length + as.tail.length));
+      System.arraycopy(as.tail, 0, t, tail.length, t.length - tail.length);
+      if (as.tail.length <= room)
+        return new PersistentVector<>(root, shift, treeSize, t);
+      final PersistentVector<A> v = new PersistentVector<A>(root, shift, treeSize, t).pushTail();
+      return new PersistentVector<>(v.root, v.shift, v.treeSize, Arrays.copyOfRange(as.tail, room, as.tail.length));
+    }
+    final PersistentVector<A> v = pushTail();
+    final Object[] nodes = concat(v.root, v.shift, as.root, as.shift);
+    final int s = Math.max(v.shift, as.shift);
+    return nodes.length == 1
+        ? tree((Object[]) nodes[0], s, v.treeSize + as.treeSize, as.tail)
+        : tree((Object[]) rebalance(nodes, s + BITS)[0], s + BITS, v.treeSize + as.treeSize, as.tail);
+  }
+
+  /**
+   * Takes the given number of elements from the start of this vector if they are available.
+   *
+   * @param n The maximum number of elements to take from this vector.
+   * @return A vector of the first elements of this one.
+   */
+  public PersistentVector<A> take(final int n) {
+    if (n <= 0)
+      return empty();
+    if (n >= length())
+      return this;
+    if (n >= treeSize)
+      return new PersistentVector<>(root, shift, treeSize, Arrays.copyOf(tail, n - treeSize));
+    return tree(take(root, shift, n), shift, n, EMPTY_NODE);
+  }
+
+  /**
+   * Drops the given number of elements from the start of this vector if they are available.
+   *
+   * @param n The number of elements to drop from this vector.
+   * @return A vector of the last elements of this one.
+   */
+  public PersistentVector<A> drop(final int n) {
+    if (n <= 0)
+      return this;
+    if (n >= length())
+      return empty();
+    if (n >= treeSize)
+      return new PersistentVector<>(EMPTY_NODE, 0, 0, Arrays.copyOfRange(tail, n - treeSize, tail.length));
+    return tree(drop(root, shift, n), shift, treeSize - n, tail);
+  }
+
+  /**
+   * Splits this vector at the given index in O(log n) time.
+   *
+   * @param n The index at which to split this vector.
+   * @return The elements before the given index and the elements from it on.
+   */
+  public P2<PersistentVector<A>, PersistentVector<A>> split(final int n) {
+    return P.p(take(n), drop(n));
+  }
+
+  /**
+   * Maps the given function across this vector.
+   *
+   * @param f The function to map across this vector.
+   * @return A vector of the results of applying the given function to the elements of this one.
+   */
+  public <B> PersistentVector<B> map(final F<A, B> f) {
+    final Builder<B> b = new Builder<>();
+    for (final A a : this)
+      b.snoc(f.f(a));
+    return b.build();
+  }
+
+  /**
+   * Performs a left-fold reduction across this vector.
+   *
+   * @param f The function to apply on each element of the vector.
+   * @param b The beginning value to start the application from.
+   * @return The final result after the left-fold reduction.
+   */
+  public <B> B foldLeft(final F2<B, A, B> f, final B b) {
+    B x = b;
+    for (final A a : this)
+      x = f.f(x, a);
+    return x;
+  }
+
+  /**
+   * Returns an iterator over the elements of this vector, visiting each leaf of the tree once.
+   *
+   * @return An iterator over the elements of this vector.
+   */
+  public Iterator<A> iterator() {
+    return new Iterator<A>() {
+      private int i;
+      private Object[] leaf = EMPTY_NODE;
+      private int leafStart;
+
+      public boolean hasNext() {
+        return i < length();
+      }
+
+      @SuppressWarnings("unchecked")
+      public A next() {
+        if (i >= length())
+          throw new NoSuchElementException();
+        if (i - leafStart >= leaf.length) {
+          if (i >= treeSize) {
+            leaf = tail;
+            leafStart = treeSize;
+          } else {
+            Object[] node = root;
+            int j = i;
+            for (int s = shift; s > 0; s -= BITS) {
+              final int c = childIndex(node, s, j);
+              j -= childOffset(node, s, c);
+              node = (Object[]) node[c];
+            }
+            leaf = node;
+            leafStart = i - j;
+          }
+        }
+        return (A) leaf[i++ - leafStart];
+      }
+
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  /**
+   * Returns a list of the elements of this vector.
+   *
+   * @return A list of the elements of this vector.
+   */
+  public List<A> toList() {
+    return List.iterableList(this);
+  }
+
+  /**
+   * Returns a sequence of the elements of this vector.
+   *
+   * @return A sequence of the elements of this vector.
+   */
+  public Seq<A> toSeq() {
+    return Seq.iterableSeq(this);
+  }
+
+  /**
+   * Returns an array of the elements of this vector.
+   *
+   * @return An array of the elements of this vector.
+   */
+  public Array<A> toArray() {
+    final Object[] as = new Object[length()];
+    int i = 0;
+    for (final A a : this)
+      as[i++] = a;
+    return Array.mkArray(as);
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return Equal.equals0(PersistentVector.class, this, other, () -> Equal.persistentVectorEqual(Equal.anyEqual()));
+  }
+
+  @Override
+  public int hashCode() {
+    return Hash.persistentVectorHash(Hash.<A>anyHash()).hash(this);
+  }
+
+  @Override
+  public String toString() {
+    return Show.persistentVectorShow(Show.<A>anyShow()).showS(this);
+  }
+
+  private void checkIndex(final int i) {
+    if (i < 0 || i >= length())
+      throw error("index " + i + " out of range on vector with length " + length());
+  }
+
+  // Moves the tail into the tree, leaving an empty tail.
+  private PersistentVector<A> pushTail() {
+    if (tail.length == 0)
+      return this;
+    if (treeSize == 0)
+      return new PersistentVector<>(tail, 0, tail.length, EMPTY_NODE);
+    final Object[] r = appendLeaf(root, shift, tail);
+    return r != null
+        ? new PersistentVector<>(r, shift, treeSize + tail.length, EMPTY_NODE)
+        : new PersistentVector<>(node(new Object[]{root, path(tail, shift)}, 0, 2, shift + BITS), shift + BITS,
+            treeSize + tail.length, EMPTY_NODE);
+  }
+
+  // Drops the single-child nodes from the top of the given tree.
+  private static <A> PersistentVector<A> tree(final Object[] root, final int shift, final int treeSize,
+                                              final Object[] tail) {
+    Object[] r = root;
+    int s = shift;
+    while (s > 0 && children(r) == 1) {
+      r = (Object[]) r[0];
+      s -= BITS;
+    }
+    return new PersistentVector<>(r, s, treeSize, tail);
+  }
+
+  private static boolean relaxed(final Object[] node) {
+    return node[node.length - 1] instanceof int[];
+  }
+
+  private static int[] sizes(final Object[] node) {
+    return (int[]) node[node.length - 1];
+  }
+
+  private static int children(final Object[] node) {
+    return relaxed(node) ? node.length - 1 : node.length;
+  }
+
+  private static int size(final Object[] node, final int shift) {
+    if (shift == 0)
+      return node.length;
+    if (relaxed(node)) {
+      final int[] sizes = sizes(node);
+      return sizes[sizes.length - 1];
+    }
+    final int n = node.length;
+    return ((n - 1) << shift) + size((Object[]) node[n - 1], shift - BITS);
+  }
+
+  private static int childIndex(final Object[] node, final int shift, final int i) {
+    int c = i >>> shift;
+    if (relaxed(node)) {
+      final int[] sizes = sizes(node);
+      while (sizes[c] <= i)
+        c++;
+    }
+    return c;
+  }
+
+  private static int childOffset(final Object[] node, final int shift, final int c) {
+    return c == 0 ? 0 : relaxed(node) ? sizes(node)[c - 1] : c << shift;
+  }
+
+  // Builds a node at the given shift from a range of children, with a size table unless every child but the last
+  // one is full.
+  private static Object[] node(final Object[] children, final int from, final int to, final int shift) {
+    final int n = to - from;
+    final int[] sizes = new int[n];
+    boolean balanced = true;
+    int total = 0;
+    for (int i = 0; i < n; i++) {
+      final int s = size((Object[]) children[from + i], shift - BITS);
+      balanced = balanced && (i == n - 1 || s == 1 << shift);
+      total += s;
+      sizes[i] = total;
+    }
+    if (balanced)
+      return Arrays.copyOfRange(children, from, to);
+    final Object[] node = new Object[n + 1];
+    System.arraycopy(children, from, node, 0, n);
+    node[n] = sizes;
+    return node;
+  }
+
+  private static Object[] path(final Object[] leaf, final int shift) {
+    Object[] node = leaf;
+    for (int s = 0; s < shift; s += BITS)
+      node = new Object[]{node};
+    return node;
+  }
+
+  private static Object[] update(final Object[] node, final int shift, final int i, final Object a) {
+    final Object[] copy = node.clone();
+    if (shift == 0)
+      copy[i] = a;
+    else {
+      final int c = childIndex(node, shift, i);
+      copy[c] = update((Object[]) node[c], shift - BITS, i - childOffset(node, shift, c), a);
+    }
+    return copy;
+  }
+
+  // Appends a leaf to the rightmost path of the given node, or returns null if the node is full.
+  private static Object[] appendLeaf(final Object[] node, final int shift, final Object[] leaf) {
+    if (shift == 0)
+      return null;
+    final int n = children(node);
+    if (shift > BITS) {
+      final Object[] last = appendLeaf((Object[]) node[n - 1], shift - BITS, leaf);
+      if (last != null) {
+        final Object[] copy = node.clone();
+        copy[n - 1] = last;
+        if (relaxed(node)) {
+          final int[] sizes = sizes(node).clone();
+          sizes[n - 1] += leaf.length;
+          copy[n] = sizes;
+        }
+        return copy;
+      }
+    }
+    if (n == WIDTH)
+      return null;
+    final Object[] child = path(leaf, shift - BITS);
+    if (relaxed(node)) {
+      final Object[] copy = new Object[n + 2];
+      System.arraycopy(node, 0, copy, 0, n);
+      copy[n] = child;
+      final int[] sizes = Arrays.copyOf(sizes(node), n + 1);
+      sizes[n] = sizes[n - 1] + leaf.length;
+      copy[n + 1] = sizes;
+      return copy;
+    }
+    final Object[] children = Arrays.copyOf(node, n + 1);
+    children[n] = child;
+    return size((Object[]) node[n - 1], shift - BITS) == 1 << shift ? children : node(children, 0, n + 1, shift);
+  }
+
+  // The first n elements of the given node, where 0 < n <= size(node, shift).
+  private static Object[] take(final Object[] node, final int shift, final int n) {
+    if (shift == 0)
+      return n == node.length ? node : Arrays.copyOf(node, n);
+    final int c = childIndex(node, shift, n - 1);
+    final Object[] child = take((Object[]) node[c], shift - BITS, n - childOffset(node, shift, c));
+    if (relaxed(node)) {
+      final Object[] copy = new Object[c + 2];
+      System.arraycopy(node, 0, copy, 0, c);
+      copy[c] = child;
+      final int[] sizes = Arrays.copyOf(sizes(node), c + 1);
+      sizes[c] = n;
+      copy[c + 1] = sizes;
+      return copy;
+    }
+    final Object[] copy = Arrays.copyOf(node, c + 1);
+    copy[c] = child;
+    return copy;
+  }
+
+  // The given node without its first n elements, where 0 <= n < size(node, shift).
+  private static Object[] drop(final Object[] node, final int shift, final int n) {
+    if (n == 0)
+      return node;
+    if (shift == 0)
+      return Arrays.copyOfRange(node, n, node.length);
+    final int c = childIndex(node, shift, n);
+    final int count = children(node);
+    final Object[] children = new Object[count - c];
+    children[0] = drop((Object[]) node[c], shift - BITS, n - childOffset(node, shift, c));
+    System.arraycopy(node, c + 1, children, 1, count - c - 1);
+    return node(children, 0, children.length, shift);
+  }
+
+  // Concatenates two trees, returning one or two nodes at the greater of their shifts. Only the nodes along the seam
+  // between the trees are rebuilt.
+  private static Object[] concat(final Object[] left, final int leftShift, final Object[] right, final int rightShift) {
+    if (leftShift > rightShift) {
+      final int n = children(left);
+      final Object[] mid = concat((Object[]) left[n - 1], leftShift - BITS, right, rightShift);
+      return rebalance(join(left, 0, n - 1, mid, EMPTY_NODE, 0, 0), leftShift);
+    } else if (leftShift < rightShift) {
+      final Object[] mid = concat(left, leftShift, (Object[]) right[0], rightShift - BITS);
+      return rebalance(join(EMPTY_NODE, 0, 0, mid, right, 1, children(right)), rightShift);
+    } else if (leftShift == 0)
+      return new Object[]{left, right};
+    else {
+      final int n = children(left);
+      final Object[] mid = concat((Object[]) left[n - 1], leftShift - BITS, (Object[]) right[0], rightShift - BITS);
+      return rebalance(join(left, 0, n - 1, mid, right, 1, children(right)), leftShift);
+    }
+  }
+
+  private static Object[] join(final Object[] left, final int leftFrom, final int leftTo, final Object[] mid,
+                               final Object[] right, final int rightFrom, final int rightTo) {
+    final Object[] all = new Object[leftTo - leftFrom + mid.length + rightTo - rightFrom];
+    System.arraycopy(left, leftFrom, all, 0, leftTo - leftFrom);
+    System.arraycopy(mid, 0, all, leftTo - leftFrom, mid.length);
+    System.arraycopy(right, rightFrom, all, leftTo - leftFrom + mid.length, rightTo - rightFrom);
+    return all;
+  }
+
+  // Builds one or two nodes at the given shift from up to 2 * WIDTH children. If there are more than EXTRA children
+  // over the fewest that could hold their contents, the contents are first repacked into full children.
+  private static Object[] rebalance(final Object[] children, final int shift) {
+    final int childShift = shift - BITS;
+    int slots = 0;
+    for (final Object c : children)
+      slots += childShift == 0 ? ((Object[]) c).length : children((Object[]) c);
+    final int fewest = (slots + WIDTH - 1) / WIDTH;
+    Object[] cs = children;
+    if (cs.length > fewest + EXTRA) {
+      final Object[] all = new Object[slots];
+      int k = 0;
+      for (final Object c : children) {
+        final int m = childShift == 0 ? ((Object[]) c).length : children((Object[]) c);
+        System.arraycopy(c, 0, all, k, m);
+        k += m;
+      }
+      cs = new Object[fewest];
+      for (int i = 0; i < fewest; i++) {
+        final int from = i * WIDTH;
+        final int to = Math.min(from + WIDTH, slots);
+        cs[i] = childShift == 0 ? Arrays.copyOfRange(all, from, to) : node(all, from, to, childShift);
+      }
+    }
+    return cs.length <= WIDTH
+        ? new Object[]{node(cs, 0, cs.length, shift)}
+        : new Object[]{node(cs, 0, WIDTH, shift), node(cs, WIDTH, cs.length, shift)};
+  }
+
+  /**
+   * A mutable builder of vectors, which fills the leaves and nodes of a vector in place rather than copying them
+   * on each appended element. A builder may be used again after a vector has been built from it.
+   */
+  public static final class Builder<A> {
+    private Object[] tail = new Object[WIDTH];
+    private int tailSize;
+    private int treeSize;
+    // The full nodes of each level of the tree that do not have a parent yet, leaves first.
+    private final Object[][] levels = new Object[MAX_LEVELS][];
+    private final int[] counts = new int[MAX_LEVELS];
+
+    /**
+     * Appends (snoc) the given element to this builder.
+     *
+     * @param a The element to append to this builder.
+     * @return This builder.
+     */
+    public Builder<A> snoc(final A a) {
+      if (tailSize == WIDTH) {
+        push(tail, 0);
+        treeSize += WIDTH;
+        tail = new Object[WIDTH];
+        tailSize = 0;
+      }
+      tail[tailSize++] = a;
+      return this;
+    }
+
+    /**
+     * Appends the given elements to this builder.
+     *
+     * @param as The elements to append to this builder.
+     * @return This builder.
+     */
+    public Builder<A> append(final Iterable<A> as) {
+      for (final A a : as)
+        snoc(a);
+      return this;
+    }
+
+    /**
+     * Builds a vector of the elements appended to this builder so far.
+     *
+     * @return A vector of the elements appended to this builder so far.
+     */
+    public PersistentVector<A> build() {
+      int top = -1;
+      for (int level = 0; level < MAX_LEVELS; level++)
+        if (counts[level] > 0)
+          top = level;
+      if (top < 0)
+        return new PersistentVector<>(EMPTY_NODE, 0, 0, Arrays.copyOf(tail, tailSize));
+      // Each level's pending nodes, followed by the partial node built from the levels below, become the children of
+      // a node one level up.
+      Object[] carry = null;
+      for (int level = 0; level <= top; level++) {
+        final int n = counts[level];
+        final Object[] children = Arrays.copyOf(levels[level] == null ? EMPTY_NODE : levels[level],
+            carry == null ? n : n + 1);
+        if (carry != null)
+          children[n] = carry;
+        carry = children.length == 0 ? null : node(children, 0, children.length, (level + 1) * BITS);
+      }
+      return tree(carry, (top + 1) * BITS, treeSize, Arrays.copyOf(tail, tailSize));
+    }
+
+    private void push(final Object[] node, final int level) {
+      if (levels[level] == null)
+        levels[level] = new Object[WIDTH];
+      levels[level][counts[level]++] = node;
+      if (counts[level] == WIDTH) {
+        final Object[] full = levels[level];
+        levels[level] = new Object[WIDTH];
+        counts[level] = 0;
+        push(full, level + 1);
+      }
+    }
+  }
+
+}
@@ -30,6 +30,8 @@ public final class Seq<A> implements Iterable<A> {
   }
 
   private final FingerTree<Integer, A> ftree;
+  // The cached hash code of this sequence, or zero if it has not been computed yet.
+  private int hash;
 
   private Seq(final FingerTree<Integer, A> ftree) {
     this.ftree = ftree;
@@ -51,8 +53,14 @@ public final class Seq<A> implements Iterable<A> {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public boolean equals(Object other) {
-    return Equal.equals0(Seq.class, this, other, () -> Equal.seqEqual(Equal.anyEqual()));
+    if (this == other)
+      return true;
+    else if (!(other instanceof Seq))
+      return false;
+    final Seq<A> that = (Seq<A>) other;
+    return (hash == 0 || that.hash == 0 || hash == that.hash) && Equal.seqEqual(Equal.<A>anyEqual()).eq(this, that);
   }
 
   /**
@@ -389,7 +397,12 @@ public final class Seq<A> implements Iterable<A> {
 
     @Override
     public int hashCode() {
-      return Hash.seqHash(Hash.<A>anyHash()).hash(this);
+      int h = hash;
+      if (h == 0) {
+        h = Hash.seqHash(Hash.<A>anyHash()).hash(this);
+        hash = h;
+      }
+      return h;
     }
 
     public <B> Seq<B> map(F<A, B> f) {
@@ -2,6 +2,7 @@ package fj.data;
 
 import fj.*;
 
+import static fj.Bottom.error;
 import static fj.Function.*;
 import static fj.data.Either.right;
 import static fj.data.Option.none;
@@ -11,7 +12,9 @@ import static fj.function.Booleans.not;
 import static fj.Ordering.GT;
 import static fj.Ordering.LT;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * Provides an in-memory, immutable set, implemented as a red/black tree.
@@ -40,6 +43,8 @@ public abstract class Set<A> implements Iterable<A> {
 
   abstract Set<A> r();
 
+  abstract int hash();
+
   /**
    * Returns the order of this Set.
    *
@@ -69,6 +74,10 @@ public abstract class Set<A> implements Iterable<A> {
     public A head() {
       throw new Error("Head on empty set.");
     }
+
+    int hash() {
+      return 0;
+    }
   }
 
   private static final class Tree<A> extends Set<A> {
@@ -76,6 +85,9 @@ public abstract class Set<A> implements Iterable<A> {
     private final Set<A> a;
     private final A x;
     private final Set<A> b;
+    private final int size;
+    // The cached sum of the hash codes of the elements of this tree, or zero if it has not been computed yet.
+    private int hash;
 
     private Tree(final Ord<A> ord, final Color c, final Set<A> a, final A x, final Set<A> b) {
       super(ord);
@@ -83,6 +95,7 @@ public abstract class Set<A> implements Iterable<A> {
       this.a = a;
       this.x = x;
       this.b = b;
+      this.size = a.size() + 1 + b.size();
     }
 
     public Color color() {
@@ -100,6 +113,15 @@ public abstract class Set<A> implements Iterable<A> {
     public Set<A> r() {
       return b;
     }
+
+    int hash() {
+      int h = hash;
+      if (h == 0) {
+        h = a.hash() + x.hashCode() + b.hash();
+        hash = h;
+      }
+      return h;
+    }
   }
 
   /**
@@ -141,14 +163,72 @@ public abstract class Set<A> implements Iterable<A> {
     return new Empty<>(ord);
   }
 
+  /**
+   * Determines if the given object is a set with equal elements, in the same order. Sets of different sizes, or
+   * whose hash codes have been computed and differ, are unequal without comparing their elements, and subtrees
+   * shared by both sets are not compared.
+   *
+   * @param other The object to compare this set with.
+   * @return <code>true</code> if the given object is a set equal to this one.
+   */
   @Override
+  @SuppressWarnings("unchecked")
   public final boolean equals(Object other) {
-    return Equal.equals0(Set.class, this, other, () -> Equal.setEqual(Equal.anyEqual()));
+    return this == other || other instanceof Set && equal(this, (Set<A>) other, Equal.anyEqual());
+  }
+
+  /**
+   * Compares the elements of the given sets in order, with an equality which must be consistent with the hash codes
+   * of the elements.
+   */
+  static <A> boolean equal(final Set<A> s1, final Set<A> s2, final Equal<A> e) {
+    if (s1.size() != s2.size())
+      return false;
+    final int h1 = s1.cachedHash();
+    final int h2 = s2.cachedHash();
+    if (h1 != 0 && h2 != 0 && h1 != h2)
+      return false;
+    final Walk<A> w1 = new Walk<>(s1);
+    final Walk<A> w2 = new Walk<>(s2);
+    while (w1.isNotEmpty() && w2.isNotEmpty()) {
+      if (w1.atElement() && w2.atElement()) {
+        if (!e.eq(w1.element(), w2.element()))
+          return false;
+        w1.pop();
+        w2.pop();
+      } else if (w1.atElement()) {
+        w2.expand();
+      } else if (w2.atElement()) {
+        w1.expand();
+      } else if (w1.tree() == w2.tree()) {
+        w1.pop();
+        w2.pop();
+      } else {
+        final int n1 = w1.tree().size();
+        final int n2 = w2.tree().size();
+        if (n1 >= n2)
+          w1.expand();
+        if (n2 >= n1)
+          w2.expand();
+      }
+    }
+    return w1.isEmpty() && w2.isEmpty();
+  }
+
+  private int cachedHash() {
+    return isEmpty() ? 0 : ((Tree<A>) this).hash;
   }
 
+  /**
+   * Computes the hash code of this set as the sum of the hash codes of its elements, as {@link java.util.Set}
+   * does. Every node of the tree caches the sum over its subtree, so after an update only the nodes it created
+   * are summed again, in O(log n).
+   *
+   * @return the hash code for this set.
+   */
   @Override
   public final int hashCode() {
-    return Hash.setHash(Hash.<A>anyHash()).hash(this);
+    return hash();
   }
 
   @Override
@@ -231,7 +311,99 @@ public abstract class Set<A> implements Iterable<A> {
    * @return an iterator over this set.
    */
   public final Iterator<A> iterator() {
-    return toStream().iterator();
+    return new Iterator<A>() {
+      private Object[] stack = new Object[16];
+      private int top;
+
+      {
+        pushLeft(Set.this);
+      }
+
+      private void pushLeft(Set<A> s) {
+        for (; !s.isEmpty(); s = s.l()) {
+          if (top == stack.length)
+            stack = Arrays.copyOf(stack, top * 2);
+          stack[top++] = s;
+        }
+      }
+
+      public boolean hasNext() {
+        return top != 0;
+      }
+
+      @SuppressWarnings("unchecked")
+      public A next() {
+        if (top == 0)
+          throw new NoSuchElementException();
+        final Set<A> s = (Set<A>) stack[--top];
+        stack[top] = null;
+        pushLeft(s.r());
+        return s.head();
+      }
+
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  /**
+   * The pending parts of an in-order walk over a set: subtrees still to walk, and elements, on top of the subtrees
+   * that follow them.
+   */
+  private static final class Walk<A> {
+    private Object[] items = new Object[16];
+    private boolean[] elements = new boolean[16];
+    private int top;
+
+    Walk(final Set<A> s) {
+      push(s, false);
+    }
+
+    private void push(final Object o, final boolean element) {
+      if (!element && ((Set<?>) o).isEmpty())
+        return;
+      if (top == items.length) {
+        items = Arrays.copyOf(items, top * 2);
+        elements = Arrays.copyOf(elements, top * 2);
+      }
+      items[top] = o;
+      elements[top++] = element;
+    }
+
+    boolean isEmpty() {
+      return top == 0;
+    }
+
+    boolean isNotEmpty() {
+      return top != 0;
+    }
+
+    boolean atElement() {
+      return elements[top - 1];
+    }
+
+    @SuppressWarnings("unchecked")
+    A element() {
+      return (A) items[top - 1];
+    }
+
+    @SuppressWarnings("unchecked")
+    Set<A> tree() {
+      return (Set<A>) items[top - 1];
+    }
+
+    void pop() {
+      items[--top] = null;
+    }
+
+    void expand() {
+      final Set<A> t = tree();
+      pop();
+      push(t.r(), false);
+      push(t.head(), true);
+      push(t.l(), false);
+    }
   }
 
   /**
@@ -481,8 +653,7 @@ public abstract class Set<A> implements Iterable<A> {
    * @return The number of elements in this set.
    */
   public final int size() {
-    final F<A, Integer> one = constant(1);
-    return foldMap(one, Monoid.intAdditionMonoid);
+    return isEmpty() ? 0 : ((Tree<A>) this).size;
   }
 
   /**
@@ -679,6 +850,41 @@ public abstract class Set<A> implements Iterable<A> {
     return s;
   }
 
+  /**
+   * Returns the elements of the given array as a set, in linear time. The elements must be in strictly
+   * ascending order with respect to the given order, that is sorted and distinct, which is checked. The tree is
+   * built balanced, directly from the array, instead of inserting the elements one at a time.
+   *
+   * @param o  An order for the elements of the new set.
+   * @param as An array of sorted and distinct elements.
+   * @return A new set containing the elements of the given array.
+   */
+  public static <A> Set<A> fromSortedArray(final Ord<A> o, final Array<A> as) {
+    for (int i = 1; i < as.length(); i++) {
+      if (!o.isLessThan(as.get(i - 1), as.get(i)))
+        throw error("Elements are not sorted and distinct at index " + i);
+    }
+    return build(o, as, 0, as.length(), 0, redLevel(as.length()));
+  }
+
+  // The depth of the last, partially filled level of a balanced tree of the given size. Its nodes are coloured red
+  // so that every path has the same number of black nodes.
+  private static int redLevel(final int size) {
+    int level = 0;
+    for (int m = size - 1; m >= 0; m = m / 2 - 1)
+      level++;
+    return level;
+  }
+
+  private static <A> Set<A> build(final Ord<A> o, final Array<A> as, final int from, final int to, final int level,
+                                  final int redLevel) {
+    if (from >= to)
+      return empty(o);
+    final int mid = (from + to) >>> 1;
+    return new Tree<>(o, level == redLevel ? Color.R : Color.B,
+        build(o, as, from, mid, level + 1, redLevel), as.get(mid), build(o, as, mid + 1, to, level + 1, redLevel));
+  }
+
   /**
    * Return the elements of the given iterator as a set.
    *
@@ -8,7 +8,6 @@ import fj.control.Trampoline;
 import static fj.P.lazy;
 import static fj.P.p;
 import static fj.control.Trampoline.suspend;
-import static fj.data.List.cons;
 
 /**
  * Created by MarkPerry on 7/07/2014.
@@ -53,25 +52,27 @@ public final class State<S, A> {
 
   /**
    * Evaluate each action in the sequence from left to right, and collect the results.
+   * The actions are run by a single loop over the list, in constant stack.
    */
   public static <S, A> State<S, List<A>> sequence(List<State<S, A>> list) {
-    return list
-        .foldLeft(
-            (acc, ts) -> acc.flatMap(as -> ts.map(a -> cons(a, as))),
-            State.<S, List<A>>constant(List.nil()))
-        .map(as -> as.reverse());
+    return traverse(list, ts -> ts);
   }
 
   /**
    * Map each element of a structure to an action, evaluate these actions from left to right
-   * and collect the results.
+   * and collect the results. The actions are run by a single loop over the list, in constant stack.
    */
   public static <S, A, B> State<S, List<B>> traverse(List<A> list, F<A, State<S, B>> f) {
-    return list
-        .foldLeft(
-            (acc, a) -> acc.flatMap(bs -> f.f(a).map(b -> cons(b, bs))),
-            State.<S, List<B>>constant(List.nil()))
-        .map(bs -> bs.reverse());
+    return new State<>(s -> {
+      S current = s;
+      final List.Buffer<B> bs = new List.Buffer<>();
+      for (final A a : list) {
+        final P2<S, B> result = f.f(a).run(current);
+        current = result._1();
+        bs.snoc(result._2());
+      }
+      return Trampoline.pure(p(current, bs.toList()));
+    });
   }
 
   private static <S, A> State<S, A> suspended(F<S, Trampoline<P2<S, A>>> runF) {
@@ -112,8 +113,12 @@ public final class State<S, A> {
     return suspended(s -> runF.f(f.f(s)));
   }
 
+  /**
+   * Binds the given function across the result of this state. The resulting state is run as a single trampoline,
+   * rather than running a nested trampoline for the state returned by the given function.
+   */
   public <B> State<S, B> flatMap(F<A, State<S, B>> f) {
-    return suspended(s -> runF.f(s).bind(result -> Trampoline.pure(f.f(result._2()).run(result._1()))));
+    return suspended(s -> runF.f(s).bind(result -> f.f(result._2()).runF.f(result._1())));
   }
 
 }
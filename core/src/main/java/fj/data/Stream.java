@@ -42,6 +42,9 @@ import static fj.Ordering.LT;
  * @version %build.number%
  */
 public abstract class Stream<A> implements Iterable<A> {
+  // The cached hash code of this stream, or zero if it has not been computed yet.
+  private int hash;
+
   private Stream() {
 
   }
@@ -135,7 +138,7 @@ public abstract class Stream<A> implements Iterable<A> {
   }
 
   /**
-   * Performs a right-fold reduction across this stream. This function uses O(length) stack space.
+   * Performs a right-fold reduction across this stream. This function runs in constant stack space.
    *
    * @param f The function to apply on each element of the stream.
    * @param b The beginning value to start the application from.
@@ -146,14 +149,21 @@ public abstract class Stream<A> implements Iterable<A> {
   }
 
   /**
-   * Performs a right-fold reduction across this stream. This function uses O(length) stack space.
+   * Performs a right-fold reduction across this stream. This function runs in constant stack space.
    *
    * @param f The function to apply on each element of the stream.
    * @param b The beginning value to start the application from.
    * @return The final result after the right-fold reduction.
    */
   public final <B> B foldRight1(final F2<A, B, B> f, final B b) {
-    return isEmpty() ? b : f.f(head(), tail()._1().foldRight1(f, b));
+    final Object[] as = toArrayObject();
+    B x = b;
+    for (int i = as.length - 1; i >= 0; i--) {
+      @SuppressWarnings("unchecked")
+      final A a = (A) as[i];
+      x = f.f(a, x);
+    }
+    return x;
   }
 
   /**
@@ -571,44 +581,23 @@ public abstract class Stream<A> implements Iterable<A> {
   }
 
   /**
-   * Sort this stream according to the given ordering.
+   * Sort this stream according to the given ordering. The elements are copied to an array and merge sorted in
+   * constant stack space, so this function will not terminate for an infinite stream. The sort is stable.
    *
    * @param o An ordering for the elements of this stream.
    * @return A new stream with the elements of this stream sorted according to the given ordering.
    */
+  @SuppressWarnings("unchecked")
   public final Stream<A> sort(final Ord<A> o) {
-    return mergesort(o, map(flip(Stream.<A>cons()).f(p(Stream.nil()))));
+    final Object[] as = toArrayObject();
+    Arrays.sort(as, (Comparator<Object>) o.toComparator());
+    return fromArray(as, 0);
   }
 
-  // Merges a stream of individually sorted streams into a single sorted stream.
-  private static <A> Stream<A> mergesort(final Ord<A> o, final Stream<Stream<A>> s) {
-    if (s.isEmpty())
-      return nil();
-    Stream<Stream<A>> xss = s;
-    while (xss.tail()._1().isNotEmpty())
-      xss = mergePairs(o, xss);
-    return xss.head();
-  }
-
-  // Merges individually sorted streams two at a time.
-  private static <A> Stream<Stream<A>> mergePairs(final Ord<A> o, final Stream<Stream<A>> s) {
-    if (s.isEmpty() || s.tail()._1().isEmpty())
-      return s;
-    final Stream<Stream<A>> t = s.tail()._1();
-    return cons(merge(o, s.head(), t.head()), () -> mergePairs(o, t.tail()._1()));
-  }
-
-  // Merges two individually sorted streams.
-  private static <A> Stream<A> merge(final Ord<A> o, final Stream<A> xs, final Stream<A> ys) {
-    if (xs.isEmpty())
-      return ys;
-    if (ys.isEmpty())
-      return xs;
-    final A x = xs.head();
-    final A y = ys.head();
-    if (o.isGreaterThan(x, y))
-      return cons(y, () -> merge(o, xs, ys.tail()._1()));
-    return cons(x, () -> merge(o, xs.tail()._1(), ys));
+  // A stream of the elements of the given array from the given index on, which the array must not be updated under.
+  @SuppressWarnings("unchecked")
+  private static <A> Stream<A> fromArray(final Object[] as, final int i) {
+    return i == as.length ? nil() : cons((A) as[i], () -> fromArray(as, i + 1));
   }
 
   /**
@@ -922,15 +911,9 @@ public abstract class Stream<A> implements Iterable<A> {
    * @deprecated As of release 4.6, use {@link #array(Class)}.
    */
   @Deprecated
+  @SuppressWarnings("unchecked")
   public final A[] toJavaArray() {
-    @SuppressWarnings("unchecked")
-    final A[] array = (A[]) new Object[length()];
-    int i = 0;
-    for (A a: this) {
-      array[i] = a;
-      i++;
-    }
-    return array;
+    return (A[]) toArrayObject();
   }
 
   /**
@@ -956,17 +939,20 @@ public abstract class Stream<A> implements Iterable<A> {
    *
    * @return A array projection of this stream.
    */
-  @SuppressWarnings("unchecked")
   public final Array<A> toArray() {
-    final int l = length();
-    final Object[] a = new Object[l];
-    Stream<A> x = this;
-    for (int i = 0; i < l; i++) {
-      a[i] = x.head();
-      x = x.tail()._1();
-    }
+    return mkArray(toArrayObject());
+  }
 
-    return mkArray(a);
+  // Copies the elements of this stream to a new array, forcing the spine of this stream once.
+  private Object[] toArrayObject() {
+    Object[] a = new Object[16];
+    int n = 0;
+    for (Stream<A> xs = this; xs.isNotEmpty(); xs = xs.tail()._1()) {
+      if (n == a.length)
+        a = Arrays.copyOf(a, n + (n >> 1));
+      a[n++] = xs.head();
+    }
+    return n == a.length ? a : Arrays.copyOf(a, n);
   }
 
   /**
@@ -1180,12 +1166,19 @@ public abstract class Stream<A> implements Iterable<A> {
   }
 
   /**
-   * Reverse this stream in constant stack space.
+   * Reverse this stream in constant stack space. The elements are copied to an array, over which the reversed
+   * stream is lazily built.
    *
    * @return A new stream that is the reverse of this one.
    */
   public final Stream<A> reverse() {
-    return foldLeft((as, a) -> cons(a, () -> as), Stream.nil());
+    final Object[] as = toArrayObject();
+    for (int i = 0, j = as.length - 1; i < j; i++, j--) {
+      final Object a = as[i];
+      as[i] = as[j];
+      as[j] = a;
+    }
+    return fromArray(as, 0);
   }
 
   /**
@@ -1260,9 +1253,20 @@ public abstract class Stream<A> implements Iterable<A> {
     return Equal.equals0(Stream.class, this, other, () -> Equal.streamEqual(Equal.anyEqual()));
   }
 
+  /**
+   * Computes the hash code of this stream, which must be finite, from the hash codes of its elements. The hash code
+   * is computed once, then cached.
+   *
+   * @return the hash code for this stream.
+   */
   @Override
   public final int hashCode() {
-    return Hash.streamHash(Hash.<A>anyHash()).hash(this);
+    int h = hash;
+    if (h == 0) {
+      h = Hash.streamHash(Hash.<A>anyHash()).hash(this);
+      hash = h;
+    }
+    return h;
   }
 
   @Override
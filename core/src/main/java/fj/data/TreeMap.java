@@ -3,7 +3,6 @@ package fj.data;
 import fj.Equal;
 import fj.F;
 import fj.F1Functions;
-import fj.Hash;
 import fj.Ord;
 import fj.P;
 import fj.P2;
@@ -44,14 +43,30 @@ public final class TreeMap<K, V> implements Iterable<P2<K, V>> {
     return new TreeMap<>(Set.empty(TreeMap.ord(keyOrd)));
   }
 
+  /**
+   * Determines if the given object is a tree map with equal keys mapped to equal values. Maps of different sizes,
+   * or whose hash codes have been computed and differ, are unequal without comparing their entries, and subtrees
+   * shared by both maps are not compared.
+   *
+   * @param other The object to compare this tree map with.
+   * @return <code>true</code> if the given object is a tree map equal to this one.
+   */
   @Override
+  @SuppressWarnings("unchecked")
   public boolean equals(Object other) {
-    return Equal.equals0(TreeMap.class, this, other, () -> Equal.treeMapEqual(Equal.anyEqual(), Equal.anyEqual()));
+    return this == other || other instanceof TreeMap &&
+        Set.equal(tree, ((TreeMap<K, V>) other).tree, Equal.p2Equal(Equal.anyEqual(), Equal.optionEqual(Equal.anyEqual())));
   }
 
+  /**
+   * Computes the hash code of this tree map from the hash codes of its keys and values. The hash code of the
+   * underlying set is cached by its nodes, so after an update only the nodes it created are summed again, in O(log n).
+   *
+   * @return the hash code for this tree map.
+   */
   @Override
   public int hashCode() {
-    return Hash.treeMapHash(Hash.<K>anyHash(), Hash.<V>anyHash()).hash(this);
+    return tree.hashCode();
   }
 
   @Override
@@ -122,6 +137,19 @@ public final class TreeMap<K, V> implements Iterable<P2<K, V>> {
     return iterableTreeMap(keyOrd, Array.array(ps));
   }
 
+  /**
+   * Constructs a tree map from the given elements in linear time. The keys must be in strictly ascending order,
+   * that is sorted and distinct, which is checked.
+   *
+   * @param keyOrd An order for the keys of the tree map.
+   * @param ps The elements to construct the tree map with, sorted by their distinct keys.
+   * @return A TreeMap with the given elements.
+   * @see Set#fromSortedArray(Ord, Array)
+   */
+  public static <K, V> TreeMap<K, V> fromSorted(final Ord<K> keyOrd, final Array<P2<K, V>> ps) {
+    return new TreeMap<>(Set.fromSortedArray(TreeMap.ord(keyOrd), ps.map(p -> p(p._1(), Option.some(p._2())))));
+  }
+
   /**
    * Returns a potential value that the given key maps to.
    *
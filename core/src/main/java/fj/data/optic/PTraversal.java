@@ -11,8 +11,13 @@ import fj.Monoid;
 import fj.P;
 import fj.P1;
 import fj.Semigroup;
+import fj.Unit;
 import fj.control.Trampoline;
+import fj.control.parallel.ParModule;
 import fj.control.parallel.Promise;
+import fj.control.parallel.Strategy;
+import fj.data.Array;
+import fj.data.DList;
 import fj.data.Either;
 import fj.data.IO;
 import fj.data.IOFunctions;
@@ -22,6 +27,8 @@ import fj.data.Stream;
 import fj.data.Validation;
 import fj.data.vector.V2;
 
+import static fj.Bottom.error;
+
 /**
  * A {@link PTraversal} can be seen as a {@link POptional} generalised to 0 to n targets where n can be infinite.
  *
@@ -128,6 +135,44 @@ public abstract class PTraversal<S, T, A, B> {
     return s -> this.modifyP1F(a -> P.p(f.f(a))).f(s)._1();
   }
 
+  /**
+   * modify polymorphically the targets of a {@link PTraversal} with a function applied in parallel: the targets are
+   * split into chunks of <code>grainSize</code>, each chunk is modified sequentially in its own evaluation with the
+   * given {@link Strategy}, and the source is rebuilt once with the results
+   */
+  public final F<S, T> parModify(final F<A, B> f, final Strategy<Unit> strategy, final int grainSize) {
+    if (grainSize < 1)
+      throw error("Grain size must be positive: " + grainSize);
+    return s -> {
+      final Array<A> as = foldMap(Monoid.<DList<A>>monoid(DList::append, DList.nil()), DList::single).f(s).run().toArray();
+      final Object[] bs = new Object[as.length()];
+      final List.Buffer<P1<Unit>> chunks = new List.Buffer<>();
+      for (int from = 0; from < bs.length; from += grainSize) {
+        final int start = from;
+        final int end = Math.min(from + grainSize, bs.length);
+        chunks.snoc(strategy.par(P.lazy(() -> {
+          for (int i = start; i < end; i++)
+            bs[i] = f.f(as.get(i));
+          return Unit.unit();
+        })));
+      }
+      chunks.toList().foreachDoEffect(P1::_1);
+      // lawful traversals run effects in the order they fold, so a deferred cursor refills the targets in order
+      final int[] cursor = {0};
+      @SuppressWarnings("unchecked")
+      final F<A, Trampoline<B>> next = a -> Trampoline.suspend(P.lazy(() -> Trampoline.pure((B) bs[cursor[0]++])));
+      return modifyTrampolineF(next).f(s).run();
+    };
+  }
+
+  /**
+   * modify polymorphically the targets of a {@link PTraversal} with a function applied in parallel, in chunks of
+   * {@link ParModule#DEFAULT_GRAIN_SIZE}
+   */
+  public final F<S, T> parModify(final F<A, B> f, final Strategy<Unit> strategy) {
+    return parModify(f, strategy, ParModule.DEFAULT_GRAIN_SIZE);
+  }
+
   /** set polymorphically the target of a {@link PTraversal} with a value */
   public final F<S, T> set(final B b) {
     return modify(Function.constant(b));
@@ -1,9 +1,17 @@
 package fj;
 
 import fj.data.Array;
+import fj.data.Either;
+import fj.data.Enumerator;
+import fj.data.List;
+import fj.data.Option;
+import fj.data.Set;
+import fj.data.Stream;
+import fj.data.TreeMap;
 import org.junit.Test;
 
 import static fj.data.Array.array;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -22,4 +30,35 @@ public class ShowTest {
 
     }
 
+    @Test
+    public void builderAndStreamRenderingsAgree() {
+        Show<TreeMap<Integer, Option<P2<String, Integer>>>> sa = Show.treeMapShow(Show.intShow,
+            Show.optionShow(Show.p2Show(Show.stringShow, Show.intShow)));
+        TreeMap<Integer, Option<P2<String, Integer>>> m = TreeMap.<Integer, Option<P2<String, Integer>>>empty(Ord.intOrd)
+            .set(1, Option.some(P.p("a", 2))).set(2, Option.none());
+        assertEquals("TreeMap((1: Some((a,2))),(2: None))", sa.showS(m));
+        assertEquals(sa.showS(m), Stream.asString(sa.show(m)));
+
+        Show<List<Either<Integer, String>>> sb = Show.listShow(Show.eitherShow(Show.intShow, Show.stringShow));
+        List<Either<Integer, String>> l = List.list(Either.left(1), Either.right("b"));
+        assertEquals("List(Left(1),Right(b))", sb.showS(l));
+        assertEquals(sb.showS(l), Stream.asString(sb.show(l)));
+    }
+
+    @Test
+    public void streamRenderingIsLazy() {
+        Show<Stream<Integer>> s = Show.streamShow(Show.intShow);
+        assertEquals("Stream(0,1,2", Stream.asString(s.show(Stream.forever(Enumerator.intEnumerator, 0)).take(12)));
+    }
+
+    @Test
+    public void append() {
+        StringBuilder sb = new StringBuilder("x = ");
+        Show.p3Show(Show.intShow, Show.charShow, Show.booleanShow).append(sb, P.p(1, 'c', true));
+        assertEquals("x = (1,c,true)", sb.toString());
+        Show<Integer> successor = Show.builderShow((StringBuilder b, Integer i) -> b.append(i)).contramap(i -> i + 1);
+        assertEquals("Set(1,2,3)", Show.setShow(successor).showS(Set.set(Ord.intOrd, 0, 1, 2)));
+        assertEquals("Set(1,2,3)", Stream.asString(Show.setShow(successor).show(Set.set(Ord.intOrd, 0, 1, 2))));
+    }
+
 }
@@ -0,0 +1,53 @@
+package fj.control;
+
+import fj.data.Either;
+import fj.data.List;
+import org.junit.Test;
+
+import static fj.P.lazy;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class TrampolineTest {
+
+    private static final int STEPS = 1000000;
+
+    private static Trampoline<Integer> leftNested(final int n) {
+        Trampoline<Integer> t = Trampoline.pure(0);
+        for (int i = 0; i < n; i++) {
+            t = t.bind(x -> Trampoline.pure(x + 1));
+        }
+        return t;
+    }
+
+    private static Trampoline<Integer> rightNested(final int i) {
+        return i == 0 ? Trampoline.pure(0) : Trampoline.suspend(lazy(() -> rightNested(i - 1))).map(x -> x + 1);
+    }
+
+    @Test
+    public void runIsStackSafe() {
+        assertThat(leftNested(STEPS).run(), equalTo(STEPS));
+        assertThat(rightNested(STEPS).run(), equalTo(STEPS));
+    }
+
+    @Test
+    public void resumeIsStackSafe() {
+        Trampoline<Integer> t = leftNested(STEPS);
+        Either<fj.P1<Trampoline<Integer>>, Integer> step = t.resume();
+        while (step.isLeft()) {
+            step = step.left().value()._1().resume();
+        }
+        assertThat(step.right().value(), equalTo(STEPS));
+    }
+
+    @Test
+    public void zipWith() {
+        assertThat(leftNested(1000).zipWith(rightNested(10), (a, b) -> a + b).run(), equalTo(1010));
+    }
+
+    @Test
+    public void foldRightC() {
+        assertThat(List.range(0, STEPS).foldRightC((a, b) -> b + 1, 0).run(), equalTo(STEPS));
+    }
+
+}
@@ -0,0 +1,110 @@
+package fj.control.parallel;
+
+import fj.P;
+import fj.Unit;
+import fj.data.List;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsTest {
+
+    @Test
+    public void instrumentedStrategyCountsEvaluations() {
+        final Metrics m = Metrics.metrics();
+        final Strategy<Integer> s = Strategy.<Integer>seqStrategy().instrumented(m);
+        assertThat(s.parMap1(i -> i + 1, List.range(0, 100)), equalTo(List.range(1, 101)));
+        final Metrics.Snapshot snapshot = m.snapshot();
+        assertThat(snapshot.submitted(), equalTo(100L));
+        assertThat(snapshot.finished(), equalTo(100L));
+        assertThat(snapshot.queueDepth(), equalTo(0L));
+        assertThat(snapshot.inFlight(), equalTo(0L));
+        assertThat(snapshot.executionTime().count(), equalTo(100L));
+        assertThat(snapshot.queueDelay().count(), equalTo(100L));
+    }
+
+    @Test
+    public void disabledMetricsRecordNothing() {
+        final Metrics m = Metrics.disabled();
+        final Strategy<Integer> s = Strategy.<Integer>seqStrategy().instrumented(m);
+        s.parMap1(i -> i, List.range(0, 10));
+        assertThat(m.snapshot().submitted(), equalTo(0L));
+        m.enable();
+        s.parMap1(i -> i, List.range(0, 10));
+        assertThat(m.snapshot().finished(), equalTo(10L));
+    }
+
+    @Test(timeout = 10000)
+    public void instrumentedActorReportsMailboxDepth() throws InterruptedException {
+        final Metrics m = Metrics.metrics();
+        final CountDownLatch gate = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(5);
+        final Actor<Integer> a = Actor.queueActor(Strategy.<Unit>simpleThreadStrategy(), m, i -> {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                throw new Error(e);
+            }
+            done.countDown();
+        });
+        for (int i = 0; i < 5; i++)
+            a.act(i);
+        while (m.snapshot().started() == 0)
+            Thread.sleep(1);
+        final Metrics.Snapshot blocked = m.snapshot();
+        assertThat(blocked.inFlight(), equalTo(1L));
+        assertThat(blocked.queueDepth(), equalTo(4L));
+        gate.countDown();
+        done.await();
+        while (m.snapshot().finished() < 5)
+            Thread.sleep(1);
+        assertThat(m.snapshot().queueDepth(), equalTo(0L));
+    }
+
+    @Test
+    public void disabledMetricsDoNotRecordActorMessages() {
+        final Metrics m = Metrics.disabled();
+        final List.Buffer<Integer> received = List.Buffer.empty();
+        final Actor<Integer> a = Actor.queueActor(Strategy.<Unit>seqStrategy(), m, received::snoc);
+        for (int i = 0; i < 5; i++)
+            a.act(i);
+        assertThat(m.snapshot().submitted(), equalTo(0L));
+        m.enable();
+        for (int i = 5; i < 10; i++)
+            a.act(i);
+        assertThat(received.toList(), equalTo(List.range(0, 10)));
+        assertThat(m.snapshot().submitted(), equalTo(5L));
+        assertThat(m.snapshot().finished(), equalTo(5L));
+    }
+
+    @Test
+    public void histogramPercentiles() {
+        final Metrics m = Metrics.metrics();
+        final Strategy<Unit> s = Strategy.<Unit>seqStrategy().instrumented(m);
+        for (int i = 0; i < 20; i++)
+            s.par(P.lazy(() -> {
+                final long end = System.nanoTime() + 100000;
+                while (System.nanoTime() < end) {
+                }
+                return Unit.unit();
+            }))._1();
+        final Metrics.Histogram h = m.snapshot().executionTime();
+        assertTrue(h.percentile(50) >= 100000 * 7 / 8);
+        assertTrue(h.percentile(50) <= h.percentile(99));
+        assertTrue(h.percentile(100) <= h.max());
+    }
+
+    @Test
+    public void histogramBuckets() {
+        for (final long v : new long[] {0, 1, 7, 8, 9, 15, 16, 17, 1000, 123456789, Long.MAX_VALUE}) {
+            final int i = Metrics.Histogram.index(v);
+            assertTrue(Metrics.Histogram.highest(i) >= v);
+            assertTrue(i == 0 || Metrics.Histogram.highest(i - 1) < v);
+        }
+    }
+
+}
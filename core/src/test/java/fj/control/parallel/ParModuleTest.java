@@ -0,0 +1,96 @@
+package fj.control.parallel;
+
+import fj.Monoid;
+import fj.Unit;
+import fj.data.List;
+import fj.data.Stream;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ParModuleTest {
+
+    private final ParModule pm = ParModule.parModule(Strategy.<Unit>forkJoinStrategy());
+
+    @Test
+    public void parFoldMapSums() {
+        final Stream<Integer> s = Stream.range(0, 100000);
+        assertThat(pm.parFoldMap(s, i -> i % 7, Monoid.intAdditionMonoid).claim(),
+            equalTo(s.foldLeft((a, i) -> a + i % 7, 0)));
+    }
+
+    @Test
+    public void parFoldMapPreservesOrder() {
+        final Stream<Integer> s = Stream.range(0, 500);
+        for (final int grain : new int[] {1, 3, 64, 1000}) {
+            assertThat(pm.parFoldMap(s, String::valueOf, Monoid.stringMonoid, grain).claim(),
+                equalTo(s.foldLeft((a, i) -> a + i, "")));
+        }
+    }
+
+    @Test
+    public void parFoldMapOnEmptyStream() {
+        assertThat(pm.parFoldMap(Stream.<Integer>nil(), i -> i, Monoid.intAdditionMonoid).claim(), equalTo(0));
+    }
+
+    @Test(timeout = 10000)
+    public void boundedMapMKeepsWindowAndOrder() {
+        final AtomicInteger pending = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final List<Integer> r = pm.mapM(List.range(0, 10000), i -> {
+            peak.accumulateAndGet(pending.incrementAndGet(), Math::max);
+            return pm.promise(fj.P.lazy(() -> {
+                pending.decrementAndGet();
+                return i + 1;
+            }));
+        }, 8).claim();
+        assertThat(r, equalTo(List.range(1, 10001)));
+        assertThat(peak.get() <= 8, equalTo(true));
+    }
+
+    @Test
+    public void boundedParMapOnSequentialStrategyIsStackSafe() {
+        final ParModule seq = ParModule.parModule(Strategy.<Unit>seqStrategy());
+        assertThat(seq.parMap(List.range(0, 100000), i -> i, 4).claim().length(), equalTo(100000));
+    }
+
+    @Test(timeout = 10000)
+    public void unorderedParMapYieldsAllResults() {
+        final List<Integer> r = pm.parMapUnordered(List.range(0, 1000), i -> i * 3, 16).claim();
+        assertThat(r.length(), equalTo(1000));
+        assertThat(r.sort(fj.Ord.intOrd), equalTo(List.range(0, 1000).map(i -> i * 3)));
+    }
+
+    @Test
+    public void boundedParMapOnEmptyList() {
+        assertThat(pm.parMap(List.<Integer>nil(), i -> i, 4).claim(), equalTo(List.<Integer>nil()));
+    }
+
+    @Test(timeout = 10000)
+    public void pipelineOverInfiniteStream() {
+        final Stream<Integer> r = pm.pipeline(Stream.forever(fj.data.Enumerator.intEnumerator, 0), i -> i * i, 16);
+        assertThat(r.take(1000).toList(), equalTo(List.range(0, 1000).map(i -> i * i)));
+    }
+
+    @Test(timeout = 10000)
+    public void pipelineBoundsLookAhead() {
+        final AtomicInteger started = new AtomicInteger();
+        final Stream<Integer> r = pm.pipeline(Stream.range(0, 100), i -> {
+            started.incrementAndGet();
+            return i;
+        }, 5);
+        assertThat(r.head(), equalTo(0));
+        assertThat(started.get() <= 5, equalTo(true));
+        assertThat(r.toList(), equalTo(List.range(0, 100)));
+        assertThat(started.get(), equalTo(100));
+    }
+
+    @Test
+    public void pipelineOverEmptyStream() {
+        assertThat(pm.pipeline(Stream.<Integer>nil(), i -> i, 4).isEmpty(), equalTo(true));
+    }
+
+}
@@ -0,0 +1,112 @@
+package fj.control.parallel;
+
+import fj.F;
+import fj.Unit;
+import fj.data.List;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PromiseTest {
+
+    private final Strategy<Unit> s = Strategy.simpleThreadStrategy();
+
+    @Test(timeout = 10000)
+    public void fromCompletionStageIsKeptOnCompletion() throws Exception {
+        final CompletableFuture<Integer> f = new CompletableFuture<>();
+        final Promise<Callable<Integer>> p = Promise.fromCompletionStage(s, f);
+        assertTrue(!p.isFulfilled());
+        f.complete(42);
+        assertThat(p.claim().call(), equalTo(42));
+    }
+
+    @Test(timeout = 10000)
+    public void fromCompletionStageKeepsFailures() {
+        final CompletableFuture<Integer> f = new CompletableFuture<>();
+        f.completeExceptionally(new IOException("down"));
+        try {
+            Promise.fromFuture(s, f).claim().call();
+            fail();
+        } catch (Exception e) {
+            assertTrue(e instanceof IOException);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void fromPlainFuture() throws Exception {
+        final FutureTask<String> t = new FutureTask<>(() -> "done");
+        new Thread(t).start();
+        assertThat(Promise.fromFuture(s, t).claim().call(), equalTo("done"));
+    }
+
+    @Test(timeout = 10000)
+    public void toCompletableFuture() throws Exception {
+        final ParModule pm = ParModule.parModule(s);
+        assertThat(pm.promise(fj.P.lazy(() -> 6 * 7)).fmap(i -> i + 1).toCompletableFuture()
+            .thenApply(i -> i * 2).get(), equalTo(86));
+    }
+
+    @Test(timeout = 10000)
+    public void callablePromiseToCompletableFuture() throws InterruptedException {
+        final CompletableFuture<Integer> f = Promise.toCompletableFuture(Promise.promise(s, () -> {
+            throw new IOException("down");
+        }));
+        try {
+            f.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void asyncCallable() throws Exception {
+        final ExecutorService e = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(Callables.async(() -> "async", e).get(), equalTo("async"));
+        } finally {
+            e.shutdown();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void asyncCallableCombinators() throws Exception {
+        final ExecutorService e = Executors.newFixedThreadPool(2);
+        try {
+            assertThat(Callables.bindAsync(() -> 20, i -> () -> i + 1, e).get(), equalTo(21));
+            assertThat(Callables.applyAsync(() -> 20, () -> (F<Integer, Integer>) i -> i * 2, e).get(), equalTo(40));
+            assertThat(Callables.sequenceAsync(List.range(0, 5).map(i -> () -> i * i), e).get(),
+                equalTo(List.list(0, 1, 4, 9, 16)));
+            try {
+                Callables.sequenceAsync(List.<Callable<Integer>>list(() -> 1, () -> {
+                    throw new IOException("down");
+                }), e).get();
+                fail();
+            } catch (ExecutionException x) {
+                assertTrue(x.getCause() instanceof IOException);
+            }
+            try {
+                Callables.bindAsync(() -> 1, i -> () -> {
+                    throw new AssertionError("down");
+                }, e).get();
+                fail();
+            } catch (ExecutionException x) {
+                assertTrue(x.getCause() instanceof AssertionError);
+            }
+        } finally {
+            e.shutdown();
+        }
+    }
+
+}
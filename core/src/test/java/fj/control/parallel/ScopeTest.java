@@ -0,0 +1,116 @@
+package fj.control.parallel;
+
+import fj.P;
+import fj.P1;
+import fj.Unit;
+import fj.data.List;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ScopeTest {
+
+    private final Strategy<Unit> s = Strategy.simpleThreadStrategy();
+
+    private static void sleep(final long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            throw new Error(e);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void awaitAllWaitsForPromisesAndMailboxes() {
+        final AtomicInteger received = new AtomicInteger();
+        try (Scope scope = Scope.scope(s)) {
+            final Actor<Integer> a = scope.actor(i -> {
+                sleep(1);
+                received.addAndGet(i);
+            });
+            final List<Promise<Integer>> ps = List.range(0, 20).map(scope.promise(i -> {
+                a.act(i);
+                return i;
+            }));
+            scope.awaitAll();
+            assertThat(scope.pending(), equalTo(0));
+            assertThat(received.get(), equalTo(190));
+            assertThat(ps.map(Promise::claim), equalTo(List.range(0, 20)));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void failureCancelsSiblings() {
+        final AtomicInteger ran = new AtomicInteger();
+        final Scope scope = Scope.scope(Strategy.seqStrategy());
+        scope.promise(P.lazy(() -> {
+            throw new IllegalStateException("boom");
+        }));
+        try {
+            scope.promise(P.lazy(ran::incrementAndGet));
+            fail();
+        } catch (Error e) {
+            assertTrue(scope.isCancelled());
+        }
+        try {
+            scope.awaitAll();
+            fail();
+        } catch (Error e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertThat(ran.get(), equalTo(0));
+    }
+
+    @Test(timeout = 10000)
+    public void deadlineCancelsScope() {
+        final Scope scope = Scope.scope(s, 50, TimeUnit.MILLISECONDS);
+        scope.promise(P.lazy(() -> {
+            while (!scope.isCancelled())
+                sleep(1);
+            return Unit.unit();
+        }));
+        try {
+            scope.awaitAll();
+            fail();
+        } catch (Error e) {
+            assertTrue(scope.isCancelled());
+        }
+        scope.close();
+        assertThat(scope.pending(), equalTo(0));
+    }
+
+    @Test(timeout = 10000)
+    public void awaitAnyReturnsFirstSuccess() {
+        try (Scope scope = Scope.scope(s)) {
+            final List<P1<String>> ps = List.list(
+                P.lazy(() -> {
+                    throw new IllegalStateException();
+                }),
+                P.lazy(() -> {
+                    while (!scope.isCancelled())
+                        sleep(1);
+                    return "slow";
+                }),
+                P.lazy(() -> "fast"));
+            assertThat(scope.awaitAny(ps), equalTo("fast"));
+            assertTrue(scope.isCancelled());
+            assertTrue(scope.failure().isNone());
+        }
+    }
+
+    @Test(expected = Error.class, timeout = 10000)
+    public void awaitAnyFailsWhenAllFail() {
+        try (Scope scope = Scope.scope(s)) {
+            scope.awaitAny(List.<P1<Integer>>list(P.lazy(() -> {
+                throw new IllegalStateException();
+            })));
+        }
+    }
+
+}
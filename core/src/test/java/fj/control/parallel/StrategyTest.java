@@ -0,0 +1,69 @@
+package fj.control.parallel;
+
+import fj.Unit;
+import fj.data.List;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class StrategyTest {
+
+    @Test(timeout = 10000)
+    public void nestedParMapOnForkJoinStrategy() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final Strategy<List<Integer>> outer = Strategy.forkJoinStrategy(pool);
+            final Strategy<Integer> inner = Strategy.forkJoinStrategy(pool);
+            final List<List<Integer>> r = outer.parMap1(
+                i -> inner.parMap1(j -> i * j, List.range(0, 100)), List.range(0, 100));
+            assertThat(r.map(l -> l.foldLeft((a, b) -> a + b, 0)),
+                equalTo(List.range(0, 100).map(i -> i * 4950)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void nestedParModuleOnForkJoinStrategy() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final ParModule pm = ParModule.parModule(Strategy.<Unit>forkJoinStrategy(pool));
+            final List<Integer> r = pm.parMap(List.range(0, 50),
+                i -> pm.parMap(List.range(0, 50), j -> i + j).claim().length()).claim();
+            assertThat(r, equalTo(List.replicate(50, 50)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = Error.class)
+    public void errorsAreRethrown() {
+        Strategy.<Integer>forkJoinStrategy().par(fj.P.lazy(() -> {
+            throw new IllegalStateException();
+        }))._1();
+    }
+
+    @Test(timeout = 10000)
+    public void boundedParMapKeepsWindow() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final Strategy<Integer> s = Strategy.simpleThreadStrategy();
+        final List<Integer> r = s.parMap(i -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                throw new Error(e);
+            }
+            running.decrementAndGet();
+            return i * 2;
+        }, List.range(0, 200), 4)._1();
+        assertThat(r, equalTo(List.range(0, 200).map(i -> i * 2)));
+        assertThat(peak.get() <= 4, equalTo(true));
+    }
+
+}
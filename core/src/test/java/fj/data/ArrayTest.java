@@ -1,10 +1,16 @@
 package fj.data;
 
+import fj.Equal;
+import fj.Monoid;
+import fj.Ord;
+import fj.P;
+import fj.P2;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Created by MarkPerry on 14 Feb 16.
@@ -18,4 +24,39 @@ public class ArrayTest {
         assertThat(list.toArray().array(Integer[].class), instanceOf(Integer[].class));
     }
 
+    @Test
+    public void parallelOperationsAgreeWithSequential() {
+        final Array<Integer> a = Array.range(0, 10000).map(i -> (i * 7919) % 1000);
+        final Equal<Array<Integer>> eq = Equal.arrayEqual(Equal.intEqual);
+
+        for (final int grain : new int[] {1, 7, 1000, 20000}) {
+            assertTrue(eq.eq(a.map(i -> i * 2), a.parMap(i -> i * 2, grain)));
+            assertTrue(eq.eq(a.filter(i -> i % 3 == 0), a.parFilter(i -> i % 3 == 0, grain)));
+            assertThat(a.parFoldMap(i -> i + 1, Monoid.intAdditionMonoid, grain),
+                equalTo(a.foldLeft((acc, i) -> acc + i + 1, 0)));
+            assertTrue(eq.eq(a.scanLeft((acc, i) -> acc + i, 0), a.parScan(Monoid.intAdditionMonoid, grain)));
+            assertTrue(eq.eq(a.toList().sort(Ord.intOrd).toArray(), a.parSort(Ord.intOrd, grain)));
+        }
+    }
+
+    @Test
+    public void parallelOperationsOnEmptyArray() {
+        final Array<Integer> a = Array.empty();
+
+        assertTrue(a.parMap(i -> i + 1).isEmpty());
+        assertTrue(a.parFilter(i -> true).isEmpty());
+        assertThat(a.parFoldMap(i -> i, Monoid.intAdditionMonoid), equalTo(0));
+        assertTrue(a.parScan(Monoid.intAdditionMonoid).isEmpty());
+        assertTrue(a.parSort(Ord.intOrd).isEmpty());
+    }
+
+    @Test
+    public void parSortIsStable() {
+        final Array<P2<Integer, Integer>> a = Array.range(0, 5000).map(i -> P.p(i % 10, i));
+        final Array<P2<Integer, Integer>> sorted = a.parSort(Ord.intOrd.contramap(P2.__1()), 64);
+
+        assertTrue(sorted.toList().zip(sorted.toList().drop(1)).forall(p ->
+            p._1()._1() < p._2()._1() || (p._1()._1().equals(p._2()._1()) && p._1()._2() < p._2()._2())));
+    }
+
 }
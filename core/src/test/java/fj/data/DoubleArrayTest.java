@@ -0,0 +1,30 @@
+package fj.data;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class DoubleArrayTest {
+
+    @Test
+    public void agreesWithArray() {
+        final DoubleArray a = DoubleArray.array(2.5, -1.0, 4.0, 0.5);
+        final Array<Double> boxed = a.toArray();
+
+        assertThat(a.map(d -> d / 2).toArray(), equalTo(boxed.map(d -> d / 2)));
+        assertThat(a.scanLeft((x, d) -> x + d, 1.0).toArray(), equalTo(boxed.scanLeft((x, d) -> x + d, 1.0)));
+        assertThat(DoubleArray.fromArray(boxed), equalTo(a));
+    }
+
+    @Test
+    public void aggregates() {
+        final DoubleArray a = DoubleArray.array(2.5, -1.0, 4.0, 0.5);
+
+        assertThat(a.sort(), equalTo(DoubleArray.array(-1.0, 0.5, 2.5, 4.0)));
+        assertThat(a.sum(), equalTo(6.0));
+        assertThat(a.minimum(), equalTo(-1.0));
+        assertThat(a.maximum(), equalTo(4.0));
+    }
+
+}
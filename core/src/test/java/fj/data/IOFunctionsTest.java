@@ -61,4 +61,33 @@ public class IOFunctionsTest {
     Assert.assertThat(closed.get(), Is.is(true));
   }
 
-}
\ No newline at end of file
+  @Test
+  public void sequence_runs_left_to_right_in_constant_stack() throws Exception {
+    final StringBuilder order = new StringBuilder();
+    final List<IO<Integer>> ios = List.range(0, 100000).map(i -> () -> {
+      if (i < 3) {
+        order.append(i);
+      }
+      return i;
+    });
+
+    Assert.assertThat(IOFunctions.sequence(ios).run(), Is.is(List.range(0, 100000)));
+    Assert.assertThat(order.toString(), Is.is("012"));
+    Assert.assertThat(IOFunctions.sequence(ios.toStream()).run().length(), Is.is(100000));
+  }
+
+  @Test
+  public void long_bind_chains_run_in_constant_stack() throws Exception {
+    IO<Integer> left = IOFunctions.unit(0);
+    for (int i = 0; i < 100000; i++) {
+      left = IOFunctions.map(IOFunctions.bind(left, x -> IOFunctions.unit(x + 1)), x -> x);
+    }
+    Assert.assertThat(left.run(), Is.is(100000));
+    Assert.assertThat(loop(0, 100000).run(), Is.is(100000));
+  }
+
+  private static IO<Integer> loop(final int i, final int n) {
+    return i == n ? IOFunctions.unit(i) : IOW.lift(IOFunctions.unit(i)).bind(x -> loop(x + 1, n));
+  }
+
+}
@@ -0,0 +1,52 @@
+package fj.data;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class IntArrayTest {
+
+    @Test
+    public void agreesWithArray() {
+        final IntArray a = IntArray.array(5, 3, 9, 1, 7);
+        final Array<Integer> boxed = a.toArray();
+
+        assertThat(a.map(i -> i * 2).toArray(), equalTo(boxed.map(i -> i * 2)));
+        assertThat(a.filter(i -> i > 3).toArray(), equalTo(boxed.filter(i -> i > 3)));
+        assertThat(a.foldLeft((x, i) -> x - i, 0), equalTo(boxed.foldLeft((x, i) -> x - i, 0)));
+        assertThat(a.foldRight((i, x) -> i - x, 0), equalTo(boxed.foldRight((i, x) -> i - x, 0)));
+        assertThat(a.scanLeft((x, i) -> x + i, 0).toArray(), equalTo(boxed.scanLeft((x, i) -> x + i, 0)));
+        assertThat(a.zipWith(a.reverse(), (x, y) -> x * y).toArray(),
+            equalTo(boxed.zipWith(boxed.reverse(), (x, y) -> x * y)));
+        assertThat(IntArray.fromArray(boxed), equalTo(a));
+    }
+
+    @Test
+    public void aggregates() {
+        final IntArray a = IntArray.array(5, 3, 9, 1, 7);
+
+        assertThat(a.sort(), equalTo(IntArray.array(1, 3, 5, 7, 9)));
+        assertThat(a.sum(), equalTo(25));
+        assertThat(a.minimum(), equalTo(1));
+        assertThat(a.maximum(), equalTo(9));
+        assertThat(IntArray.range(0, 4).toString(), equalTo("IntArray(0,1,2,3)"));
+        assertThat(IntArray.empty().sum(), equalTo(0));
+    }
+
+    @Test(expected = Error.class)
+    public void minimumOnEmpty() {
+        IntArray.empty().minimum();
+    }
+
+    @Test
+    public void isImmutable() {
+        final int[] xs = {1, 2, 3};
+        final IntArray a = IntArray.array(xs);
+        xs[0] = 42;
+        a.array()[1] = 42;
+
+        assertThat(a, equalTo(IntArray.array(1, 2, 3)));
+    }
+
+}
@@ -18,4 +18,66 @@ public class LazyStringTest {
         assertThat(s.toString(), is(equalTo("Cons(LazyString(a, ?), ?)")));
     }
 
+    @Test
+    public void ropeOperations() {
+        LazyString s = LazyString.str("hello ").append("rope ").append(LazyString.str("world"));
+        assertThat(s.length(), is(16));
+        assertThat(s.charAt(11), is('w'));
+        assertThat(((LazyString) s.subSequence(4, 13)).eval(), is("o rope wo"));
+        assertThat(s.indexOf(LazyString.str("rope")), is(Option.some(6)));
+        assertThat(s.indexOf('z'), is(Option.none()));
+        assertThat(s.reverse().eval(), is("dlrow epor olleh"));
+        assertThat(s.words().map(LazyString::eval).toList(), is(List.list("hello", "rope", "world")));
+    }
+
+    @Test
+    public void keepsStreamedInputLazy() {
+        LazyString s = LazyString.str("ab\n").append(LazyString.fromStream(Stream.repeat('x')));
+        assertThat(s.lines().head().eval(), is("ab"));
+        assertThat(s.charAt(1000), is('x'));
+        assertThat(((LazyString) s.subSequence(1, 5)).eval(), is("b\nxx"));
+        assertThat(s.startsWith(LazyString.str("ab\nxx")), is(true));
+    }
+
+    @Test
+    public void splitsAcrossChunks() {
+        LazyString s = LazyString.fromStrings(Stream.stream("  one tw", "", "o\nthr", "ee  fo", "ur\n", "\n five"));
+        assertThat(s.length(), is(28));
+        assertThat(s.charAt(8), is('o'));
+        assertThat(s.tail().tail().head(), is('o'));
+        assertThat(((LazyString) s.subSequence(6, 14)).eval(), is("two\nthre"));
+        assertThat(s.indexOf('\n'), is(Option.some(9)));
+        assertThat(s.indexOf(LazyString.str("four")), is(Option.some(17)));
+        assertThat(s.lines().map(LazyString::eval).toList(), is(List.list("  one two", "three  four", " five")));
+        Stream<LazyString> words = s.lines().bind(LazyString::words);
+        assertThat(words.map(LazyString::eval).toList(), is(List.list("one", "two", "three", "four", "five")));
+        assertThat(LazyString.unwords(words).eval(), is("one two three four five"));
+        assertThat(LazyString.unlines(s.lines()).map(Character::toUpperCase).eval(),
+            is("  ONE TWO\nTHREE  FOUR\n FIVE"));
+    }
+
+    @Test
+    public void chunksStreamedInput() {
+        LazyString s = LazyString.fromStream(Stream.range(0, 5000).map(i -> i % 100 == 99 ? '\n' : 'x'));
+        assertThat(s.length(), is(5000));
+        assertThat(s.charAt(4999), is('\n'));
+        assertThat(s.lines().length(), is(50));
+        assertThat(s.lines().forall(l -> l.length() == 99), is(true));
+        assertThat(LazyString.unlines(s.lines()).length(), is(4999));
+        assertThat(s.bind(c -> LazyString.str(c + "" + c)).length(), is(10000));
+    }
+
+    @Test
+    public void unlinesStaysLazy() {
+        LazyString s = LazyString.unlines(Stream.repeat(LazyString.str("ab")));
+        assertThat(((LazyString) s.subSequence(0, 8)).eval(), is("ab\nab\nab"));
+    }
+
+    @Test
+    public void startsWithLongString() {
+        LazyString s = LazyString.str(Stream.asString(Stream.range(0, 100000).map(i -> 'a')));
+        assertThat(s.startsWith(s.tail()), is(true));
+        assertThat(s.endsWith(s.append("b")), is(false));
+    }
+
 }
@@ -1,7 +1,11 @@
 package fj.data;
 
 import fj.Equal;
+import fj.Hash;
+import fj.Ord;
+import fj.P;
 import fj.P2;
+import fj.control.parallel.Strategy;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -91,4 +95,66 @@ public class ListTest {
         assertThat(List.range(1, max + 1).array(Integer[].class), equalTo(ints));
     }
 
+    @Test
+    public void parSort() {
+        List<Integer> list = List.range(0, 10000).map(i -> (i * 7919) % 1000);
+        List<Integer> sorted = list.sort(Ord.intOrd);
+        assertThat(list.parSort(Strategy.seqStrategy(), Ord.intOrd, 100), equalTo(sorted));
+        assertThat(list.parSort(Strategy.simpleThreadStrategy(), Ord.intOrd, 333), equalTo(sorted));
+        assertThat(list.parSort(Strategy.seqStrategy(), Ord.intOrd), equalTo(sorted));
+        assertThat(List.<Integer>nil().parSort(Strategy.seqStrategy(), Ord.intOrd, 1), equalTo(List.nil()));
+    }
+
+    @Test
+    public void parSortIsStable() {
+        List<P2<Integer, Integer>> list = List.range(0, 1000).map(i -> P.p(i % 10, i));
+        Ord<P2<Integer, Integer>> byFirst = Ord.intOrd.contramap(P2.__1());
+        assertThat(list.parSort(Strategy.seqStrategy(), byFirst, 7).map(P2.__2()),
+            equalTo(list.sort(byFirst).map(P2.__2())));
+    }
+
+    @Test(expected = Error.class)
+    public void parSortRejectsBadGrainSize() {
+        List.list(2, 1).parSort(Strategy.seqStrategy(), Ord.intOrd, 0);
+    }
+
+    @Test
+    public void hashCodeIsCached() {
+        List<Integer> list = List.range(0, 1000);
+        int h = list.hashCode();
+        assertEquals(h, list.hashCode());
+        assertEquals(h, Hash.listHash(Hash.intHash).hash(list));
+        assertEquals(h, List.range(0, 1000).hashCode());
+    }
+
+    @Test
+    public void filterAndTakeShareTheirSuffix() {
+        List<Integer> list = List.range(0, 100);
+        assertTrue(list.filter(i -> true) == list);
+        assertTrue(list.take(100) == list);
+        assertTrue(list.take(1000) == list);
+        assertTrue(list.append(List.nil()) == list);
+        List<Integer> evensThenAll = list.filter(i -> i > 50 || i % 2 == 0);
+        assertThat(evensThenAll, equalTo(List.range(0, 51).filter(i -> i % 2 == 0).append(List.range(51, 100))));
+        assertTrue(evensThenAll.drop(26) == list.drop(51));
+        assertThat(list.filter(i -> false), equalTo(List.nil()));
+        assertThat(list.take(3), equalTo(List.list(0, 1, 2)));
+        assertThat(list.take(0), equalTo(List.nil()));
+    }
+
+    @Test
+    public void foldsAndZips() {
+        List<Integer> list = List.range(0, 100000);
+        assertEquals(list.length(), 100000);
+        assertThat(list.foldRight((i, acc) -> acc.cons(i), List.<Integer>nil()), equalTo(list));
+        assertEquals(list.foldRight((i, acc) -> acc - i, 0), list.foldLeft((acc, i) -> acc - i, 0));
+        assertThat(list.zip(list.drop(1)).take(2), equalTo(List.list(P.p(0, 1), P.p(1, 2))));
+        assertEquals(list.zip(list.take(10)).length(), 10);
+        int n = 0;
+        for (int i : list) {
+            assertEquals(i, n++);
+        }
+        assertEquals(n, 100000);
+    }
+
 }
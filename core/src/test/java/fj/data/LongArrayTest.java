@@ -0,0 +1,59 @@
+package fj.data;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class LongArrayTest {
+
+    private static final long BIG = 1L << 40;
+
+    @Test
+    public void agreesWithArray() {
+        final LongArray a = LongArray.array(5, 3, BIG, 1, 7);
+        final Array<Long> boxed = a.toArray();
+
+        assertThat(a.map(i -> i * 2).toArray(), equalTo(boxed.map(i -> i * 2)));
+        assertThat(a.filter(i -> i > 3).toArray(), equalTo(boxed.filter(i -> i > 3)));
+        assertThat(a.foldLeft((x, i) -> x - i, 0), equalTo(boxed.foldLeft((x, i) -> x - i, 0L)));
+        assertThat(a.foldRight((i, x) -> i - x, 0), equalTo(boxed.foldRight((i, x) -> i - x, 0L)));
+        assertThat(a.scanLeft((x, i) -> x + i, 0).toArray(), equalTo(boxed.scanLeft((x, i) -> x + i, 0L)));
+        assertThat(a.zipWith(a.reverse(), (x, y) -> x * y).toArray(),
+            equalTo(boxed.zipWith(boxed.reverse(), (x, y) -> x * y)));
+        assertThat(a.append(a).toArray(), equalTo(boxed.append(boxed)));
+        assertThat(a.toList(), equalTo(boxed.toList()));
+        assertThat(a.get(2), equalTo(BIG));
+        assertThat(LongArray.fromArray(boxed), equalTo(a));
+    }
+
+    @Test
+    public void aggregates() {
+        final LongArray a = LongArray.array(5, 3, BIG, 1, 7);
+
+        assertThat(a.sort(), equalTo(LongArray.array(1, 3, 5, 7, BIG)));
+        assertThat(a.sum(), equalTo(BIG + 16));
+        assertThat(a.minimum(), equalTo(1L));
+        assertThat(a.maximum(), equalTo(BIG));
+        assertThat(LongArray.range(BIG, BIG + 3),
+            equalTo(LongArray.array(BIG, BIG + 1, BIG + 2)));
+        assertThat(LongArray.range(0, 4).toString(), equalTo("LongArray(0,1,2,3)"));
+        assertThat(LongArray.empty().sum(), equalTo(0L));
+    }
+
+    @Test(expected = Error.class)
+    public void minimumOnEmpty() {
+        LongArray.empty().minimum();
+    }
+
+    @Test
+    public void isImmutable() {
+        final long[] xs = {1, 2, 3};
+        final LongArray a = LongArray.array(xs);
+        xs[0] = 42;
+        a.array()[1] = 42;
+
+        assertThat(a, equalTo(LongArray.array(1, 2, 3)));
+    }
+
+}
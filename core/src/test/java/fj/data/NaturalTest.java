@@ -0,0 +1,78 @@
+package fj.data;
+
+import fj.Ord;
+import fj.Ordering;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NaturalTest {
+
+  private static final long[] EDGES = {
+      0, 1, 2, 3, Integer.MAX_VALUE, 1L << 31, (1L << 32) - 1, 1L << 32, 3037000499L, 3037000500L,
+      1L << 62, Long.MAX_VALUE - 1, Long.MAX_VALUE
+  };
+
+  private static Natural big(final BigInteger i) {
+    return Natural.natural(i).some();
+  }
+
+  private static void check(final BigInteger expected, final Natural actual) {
+    assertEquals(expected, actual.bigIntegerValue());
+    assertEquals(big(expected), actual);
+    assertEquals(expected.hashCode(), actual.hashCode());
+    assertEquals(expected.toString(), actual.toString());
+  }
+
+  @Test
+  public void arithmeticMatchesBigInteger() {
+    for (final long x : EDGES) {
+      for (final long y : EDGES) {
+        final BigInteger bx = BigInteger.valueOf(x);
+        final BigInteger by = BigInteger.valueOf(y);
+        final Natural nx = Natural.natural(x).some();
+        final Natural ny = Natural.natural(y).some();
+        check(bx.add(by), nx.add(ny));
+        check(bx.multiply(by), nx.multiply(ny));
+        assertEquals(Natural.natural(bx.subtract(by)), nx.subtract(ny));
+        if (y != 0) {
+          check(bx.divide(by), nx.divide(ny));
+          check(bx.mod(by), nx.mod(ny));
+        }
+        assertEquals(Ordering.fromInt(bx.compareTo(by)), Ord.naturalOrd.compare(nx, ny));
+      }
+    }
+  }
+
+  @Test
+  public void promotionAndDemotion() {
+    final Natural max = Natural.natural(Long.MAX_VALUE).some();
+    final Natural beyond = max.succ();
+    check(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE), beyond);
+    assertTrue(Ord.naturalOrd.isGreaterThan(beyond, max));
+    final Natural back = beyond.pred().some();
+    assertEquals(max, back);
+    assertEquals(Long.MAX_VALUE, back.longValue());
+    assertEquals(max.hashCode(), back.hashCode());
+    assertEquals(Natural.ONE, beyond.subtract(max).some());
+    assertEquals(Natural.ZERO, beyond.mod(beyond));
+    assertFalse(Natural.ZERO.pred().isSome());
+  }
+
+  @Test
+  public void bigArithmetic() {
+    final BigInteger b = BigInteger.valueOf(Long.MAX_VALUE).pow(3).add(BigInteger.valueOf(12345));
+    final Natural n = big(b);
+    final Natural seven = Natural.natural(7).some();
+    check(b.multiply(b), n.multiply(n));
+    check(b.divide(BigInteger.valueOf(7)), n.divide(seven));
+    check(b.mod(BigInteger.valueOf(7)), n.mod(seven));
+    check(b.divide(BigInteger.valueOf(7)), n.divmod(seven)._1());
+    check(b.mod(BigInteger.valueOf(7)), n.divmod(seven)._2());
+  }
+
+}
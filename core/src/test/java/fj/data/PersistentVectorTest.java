@@ -0,0 +1,136 @@
+package fj.data;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PersistentVectorTest {
+
+    private static void check(final java.util.List<Integer> expected, final PersistentVector<Integer> v) {
+        assertEquals(expected.size(), v.length());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), v.index(i));
+        }
+        int i = 0;
+        for (int a : v) {
+            assertEquals((int) expected.get(i++), a);
+        }
+        assertEquals(expected.size(), i);
+    }
+
+    private static java.util.List<Integer> range(final int from, final int to) {
+        final java.util.List<Integer> as = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            as.add(i);
+        }
+        return as;
+    }
+
+    @Test
+    public void snocAndBuilderAgree() {
+        for (final int n : new int[]{0, 1, 31, 32, 33, 1024, 1056, 1057, 32 * 32 * 32 + 33, 100000}) {
+            PersistentVector<Integer> v = PersistentVector.empty();
+            final PersistentVector.Builder<Integer> b = new PersistentVector.Builder<>();
+            for (int i = 0; i < n; i++) {
+                v = v.snoc(i);
+                b.snoc(i);
+            }
+            check(range(0, n), v);
+            check(range(0, n), b.build());
+            assertEquals(v, b.build());
+        }
+    }
+
+    @Test
+    public void builderCanBeReused() {
+        final PersistentVector.Builder<Integer> b = new PersistentVector.Builder<>();
+        b.append(List.range(0, 1000));
+        final PersistentVector<Integer> v = b.build();
+        b.append(List.range(1000, 2000));
+        check(range(0, 1000), v);
+        check(range(0, 2000), b.build());
+    }
+
+    @Test
+    public void updateTakeDropAndSplit() {
+        final int n = 5000;
+        final PersistentVector<Integer> v = PersistentVector.iterableVector(List.range(0, n));
+        final java.util.List<Integer> expected = range(0, n);
+        expected.set(4321, -1);
+        expected.set(4999, -2);
+        check(expected, v.update(4321, -1).update(4999, -2));
+        check(range(0, n), v);
+        for (final int i : new int[]{0, 1, 31, 32, 33, 1000, 1024, 4991, 4992, 4999, 5000}) {
+            check(range(0, i), v.take(i));
+            check(range(i, n), v.drop(i));
+            check(range(i, n), v.split(i)._2());
+            check(range(0, n), v.split(i)._1().append(v.split(i)._2()));
+        }
+        check(range(100, 4000), v.drop(100).take(3900).snoc(3999).take(3900));
+    }
+
+    @Test
+    public void randomAppendsMatchModel() {
+        final Random r = new Random(42);
+        PersistentVector<Integer> v = PersistentVector.empty();
+        java.util.List<Integer> model = new ArrayList<>();
+        int next = 0;
+        for (int step = 0; step < 400; step++) {
+            final int n = r.nextInt(step % 10 == 0 ? 3000 : 70);
+            final PersistentVector<Integer> w = PersistentVector.iterableVector(List.range(next, next + n));
+            switch (r.nextInt(4)) {
+                case 0:
+                    v = v.append(w);
+                    model.addAll(range(next, next + n));
+                    break;
+                case 1:
+                    v = w.append(v);
+                    model.addAll(0, range(next, next + n));
+                    break;
+                case 2:
+                    final int i = r.nextInt(model.size() + 1);
+                    v = v.take(i).append(w).append(v.drop(i));
+                    model.addAll(i, range(next, next + n));
+                    break;
+                default:
+                    v = v.cons(next);
+                    model.add(0, next);
+            }
+            next += n + 1;
+            if (model.size() > 20000) {
+                final int i = r.nextInt(model.size());
+                v = v.drop(i);
+                model = new ArrayList<>(model.subList(i, model.size()));
+            }
+            assertEquals(model.size(), v.length());
+        }
+        check(model, v);
+    }
+
+    @Test
+    public void conversionsAndObjectMethods() {
+        final PersistentVector<Integer> v = PersistentVector.vector(1, 2, 3);
+        assertEquals(List.list(1, 2, 3), v.toList());
+        assertEquals(Seq.seq(1, 2, 3), v.toSeq());
+        assertEquals(Array.array(1, 2, 3), v.toArray());
+        assertEquals("PersistentVector(1,2,3)", v.toString());
+        assertEquals(v, PersistentVector.vector(1).append(PersistentVector.vector(2, 3)));
+        assertEquals(v.hashCode(), PersistentVector.vector(1).append(PersistentVector.vector(2, 3)).hashCode());
+        assertFalse(v.equals(PersistentVector.vector(1, 2)));
+        assertEquals(PersistentVector.vector(2, 3, 4), v.map(i -> i + 1));
+        assertEquals(6, (int) v.foldLeft((acc, i) -> acc + i, 0));
+        assertTrue(PersistentVector.empty().isEmpty());
+        assertEquals(3, (int) v.last());
+    }
+
+    @Test(expected = Error.class)
+    public void indexOutOfRange() {
+        PersistentVector.vector(1, 2, 3).index(3);
+    }
+
+}
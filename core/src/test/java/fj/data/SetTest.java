@@ -1,5 +1,7 @@
 package fj.data;
 
+import fj.Equal;
+import fj.Hash;
 import org.junit.Test;
 
 import static fj.data.Option.none;
@@ -39,4 +41,55 @@ public class SetTest {
 		assertThat(s.lookupGE(8), equalTo(some(8)));
 		assertThat(s.lookupGE(9), equalTo(none()));
 	}
+
+	@Test
+	public void fromSortedArray() {
+		for (int n = 0; n < 100; n++) {
+			final int mid = n / 2;
+			Set<Integer> s = Set.fromSortedArray(intOrd, Array.range(0, n));
+			assertThat(s, equalTo(Set.iterableSet(intOrd, List.range(0, n))));
+			assertThat(s.size(), equalTo(n));
+			assertThat(s.insert(n).insert(-1).delete(mid).toList(),
+					equalTo(List.range(-1, n + 1).filter(i -> i != mid)));
+		}
+	}
+
+	@Test(expected = Error.class)
+	public void fromSortedArrayRejectsUnsortedInput() {
+		Set.fromSortedArray(intOrd, Array.array(1, 3, 2));
+	}
+
+	@Test(expected = Error.class)
+	public void fromSortedArrayRejectsDuplicates() {
+		Set.fromSortedArray(intOrd, Array.array(1, 2, 2));
+	}
+
+	@Test
+	public void hashCodeIsSumOfElementHashes() {
+		Set<Integer> s = Set.iterableSet(intOrd, List.range(0, 1000));
+		assertThat(s.hashCode(), equalTo(new java.util.HashSet<>(s.toJavaList()).hashCode()));
+		assertThat(s.insert(5000).hashCode(), equalTo(s.hashCode() + 5000));
+		assertThat(s.delete(7).hashCode(), equalTo(s.hashCode() - 7));
+		assertThat(Set.fromSortedArray(intOrd, Array.range(0, 1000)).hashCode(), equalTo(s.hashCode()));
+		assertThat(s.hashCode(), equalTo(Hash.setHash(Hash.intHash).hash(s)));
+	}
+
+	@Test
+	public void equalsAfterPersistentUpdates() {
+		Set<Integer> s = Set.iterableSet(intOrd, List.range(0, 1000));
+		assertThat(s.insert(2000).delete(2000), equalTo(s));
+		assertThat(s.delete(500).insert(500), equalTo(s));
+		assertThat(s.delete(500).equals(s.delete(501)), equalTo(false));
+		assertThat(s.equals(s.insert(-1)), equalTo(false));
+		assertThat(Equal.setEqual(Equal.intEqual).eq(s.delete(3).insert(3), s), equalTo(true));
+		assertThat(Equal.setEqual(Equal.intEqual).eq(s.delete(3).insert(1001), s), equalTo(false));
+	}
+
+	@Test
+	public void iterator() {
+		Set<Integer> s = Set.iterableSet(intOrd, List.range(0, 1000).reverse());
+		assertThat(List.iterableList(s), equalTo(List.range(0, 1000)));
+		assertThat(Set.empty(intOrd).iterator().hasNext(), equalTo(false));
+		assertThat(s.size(), equalTo(1000));
+	}
 }
@@ -1,15 +1,49 @@
 package fj.data;
 
+import fj.P2;
 import org.junit.Test;
 
+import static fj.P.p;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
 /**
  * Created by MarkPerry on 18/12/2014.
  */
 public class StateTest {
 
+    private static final int STEPS = 1000000;
+
     @Test
     public void map() {
 
     }
 
+    @Test
+    public void flatMapChainIsStackSafe() {
+        State<Integer, Integer> st = State.constant(0);
+        for (int i = 0; i < STEPS; i++) {
+            st = st.flatMap(a -> State.unit(s -> p(s + 1, a + 1)));
+        }
+        assertThat(st.run(0), equalTo(p(STEPS, STEPS)));
+    }
+
+    @Test
+    public void recursiveFlatMapIsStackSafe() {
+        assertThat(countDown(STEPS).exec(0), equalTo(STEPS));
+    }
+
+    private static State<Integer, Integer> countDown(final int n) {
+        return n == 0 ? State.constant(0) : State.<Integer>modify(s -> s + 1).flatMap(u -> countDown(n - 1));
+    }
+
+    @Test
+    public void traverse() {
+        final State<Integer, List<Integer>> st =
+            State.traverse(List.range(0, STEPS), i -> State.unit(s -> p(s + 1, s + i)));
+        final P2<Integer, List<Integer>> r = st.run(0);
+        assertThat(r._1(), equalTo(STEPS));
+        assertThat(r._2().take(3), equalTo(List.list(0, 2, 4)));
+    }
+
 }
@@ -1,17 +1,22 @@
 package fj.data;
 
+import fj.Ord;
+import fj.P2;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
 
+import static fj.P.p;
 import static fj.data.IOFunctions.stdinReadLine;
 import static java.lang.System.out;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  * Created by Zheka Kozlov on 27.05.2015.
@@ -48,5 +53,50 @@ public class StreamTest {
         x = s2.head();
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    public void longStreamOperations() {
+        final int n = 10000000;
+        final int values = 100;
+        // Values below 128 are cached boxes, so the elements take no heap beyond the array.
+        final Integer[] xs = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = i % values;
+        }
+        final Stream<Integer> s = Stream.arrayStream(xs);
+        assertThat(s.length(), is(n));
+        assertArrayEquals(xs, s.toJavaArray());
+        assertThat(s.foldRight1((x, acc) -> x + acc, 0), is(n / values * (values * (values - 1) / 2)));
+
+        final Stream<Integer> reversed = s.reverse();
+        int i = n;
+        for (final Integer x : reversed) {
+            i--;
+            if (!x.equals(xs[i])) {
+                fail("Reversed stream differs at " + (n - 1 - i));
+            }
+        }
+        assertThat(i, is(0));
+
+        final int[] counts = new int[values];
+        int previous = 0;
+        for (final Integer x : reversed.sort(Ord.intOrd)) {
+            if (x < previous) {
+                fail("Sorted stream decreases from " + previous + " to " + x);
+            }
+            counts[x]++;
+            previous = x;
+        }
+        for (int v = 0; v < values; v++) {
+            assertThat(counts[v], is(n / values));
+        }
+    }
+
+    @Test
+    public void sortIsStable() {
+        final Stream<P2<Integer, String>> s = Stream.stream(p(2, "a"), p(1, "b"), p(2, "c"), p(1, "d"), p(0, "e"));
+        assertThat(s.sort(Ord.<Integer, String>p2Ord1(Ord.intOrd)).map(P2.__2()).toList(),
+            is(List.list("e", "b", "d", "a", "c")));
+    }
 
 }
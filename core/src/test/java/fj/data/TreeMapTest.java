@@ -3,6 +3,7 @@ package fj.data;
 import java.util.Map;
 
 import fj.Equal;
+import fj.Hash;
 import fj.Ord;
 import fj.P3;
 import fj.Show;
@@ -131,4 +132,33 @@ public class TreeMapTest {
         assertTrue(true);
     }
 
+    @Test
+    public void fromSorted() {
+        Array<P2<Integer, String>> ps = Array.range(0, 50).map(i -> p(i, Integer.toString(i)));
+        TreeMap<Integer, String> t = TreeMap.fromSorted(Ord.intOrd, ps);
+        assertThat(t.toStream().toList(), equalTo(ps.toList()));
+        assertThat(t.get(42), equalTo(some("42")));
+        assertThat(t.get(50), equalTo(none()));
+        assertThat(t.set(50, "50").delete(0).size(), equalTo(50));
+    }
+
+    @Test
+    public void hashCodeDoesNotDependOnConstruction() {
+        TreeMap<Integer, String> t1 = iterableTreeMap(Ord.intOrd, List.range(0, 100).map(i -> p(i, "v" + i)));
+        TreeMap<Integer, String> t2 = iterableTreeMap(Ord.intOrd, List.range(0, 100).reverse().map(i -> p(i, "v" + i)));
+        assertEquals(t1, t2);
+        assertEquals(t1.hashCode(), t2.hashCode());
+        assertEquals(t1.set(3, "x").delete(3).hashCode(), t1.delete(3).hashCode());
+        assertEquals(t1.hashCode(), Hash.treeMapHash(Hash.intHash, Hash.stringHash).hash(t1));
+    }
+
+    @Test
+    public void equalsAfterPersistentUpdates() {
+        TreeMap<Integer, String> t = iterableTreeMap(Ord.intOrd, List.range(0, 1000).map(i -> p(i, "v" + i)));
+        assertEquals(t, t.set(7, "x").set(7, "v7"));
+        assertTrue(!t.equals(t.set(7, "x")));
+        assertTrue(!t.equals(t.delete(7)));
+        assertTrue(Equal.treeMapEqual(Equal.intEqual, Equal.stringEqual).eq(t, t.delete(7).set(7, "v7")));
+    }
+
 }
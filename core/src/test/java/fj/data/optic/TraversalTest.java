@@ -0,0 +1,48 @@
+package fj.data.optic;
+
+import fj.P;
+import fj.P2;
+import fj.Unit;
+import fj.control.parallel.Strategy;
+import fj.data.List;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class TraversalTest {
+
+    private final Strategy<Unit> s = Strategy.forkJoinStrategy();
+
+    @Test
+    public void parModifyList() {
+        final Traversal<List<Integer>, Integer> t = List.Optic.traversal();
+        final List<Integer> l = List.range(0, 100000);
+        for (final int grain : new int[] {1, 7, 1000, 200000}) {
+            assertThat(t.parModify(i -> i * 2, s, grain).f(l), equalTo(l.map(i -> i * 2)));
+        }
+    }
+
+    @Test
+    public void parModifyPolymorphic() {
+        final PTraversal<List<Integer>, List<String>, Integer, String> t = List.Optic.pTraversal();
+        assertThat(t.parModify(String::valueOf, s, 2).f(List.range(0, 5)),
+            equalTo(List.list("0", "1", "2", "3", "4")));
+    }
+
+    @Test
+    public void parModifyComposedTraversal() {
+        final Traversal<List<P2<Integer, Integer>>, P2<Integer, Integer>> list = List.Optic.traversal();
+        final Traversal<P2<Integer, Integer>, Integer> both = Traversal.traversal(P2::_1, P2::_2, (a, b, p) -> P.p(a, b));
+        final List<P2<Integer, Integer>> l = List.list(P.p(1, 2), P.p(3, 4), P.p(5, 6));
+        assertThat(list.composeTraversal(both).parModify(i -> -i, s, 2).f(l),
+            equalTo(List.list(P.p(-1, -2), P.p(-3, -4), P.p(-5, -6))));
+    }
+
+    @Test
+    public void parModifyEmpty() {
+        final Traversal<List<Integer>, Integer> t = List.Optic.traversal();
+        assertThat(t.parModify(i -> i + 1, s).f(List.nil()), equalTo(List.<Integer>nil()));
+    }
+
+}
@@ -0,0 +1,73 @@
+package fj.control.parallel;
+
+import fj.Unit;
+import fj.data.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link ParModule#parMap} over tasks that each block for 10ms, on virtual threads and
+ * on a fixed pool of 200 platform threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VirtualThreadsBenchmark {
+
+    static final int POOL_SIZE = 200;
+
+    @Param({"10000"})
+    public int tasks;
+
+    private ExecutorService pool;
+
+    private ParModule platform;
+
+    private ParModule virtual;
+
+    private List<Integer> list;
+
+    private static Integer blocking(final Integer i) {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            throw new Error(e);
+        }
+        return i;
+    }
+
+    @Setup
+    public void setup() {
+        pool = Executors.newFixedThreadPool(POOL_SIZE);
+        platform = ParModule.parModule(Strategy.<Unit>executorStrategy(pool));
+        virtual = VirtualThreads.virtualThreadParModule();
+        list = List.range(0, tasks);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Integer> virtualThreads() {
+        return virtual.parMap(list, VirtualThreadsBenchmark::blocking).claim();
+    }
+
+    @Benchmark
+    public List<Integer> platformThreads() {
+        return platform.parMap(list, VirtualThreadsBenchmark::blocking).claim();
+    }
+
+}
@@ -0,0 +1,66 @@
+package fj.control.parallel;
+
+import fj.Unit;
+import fj.data.Java;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Parallelization strategies and concurrency modules backed by virtual threads.
+ * Blocking inside a task, such as claiming a {@link Promise} or running an {@link fj.data.IO} or
+ * {@link fj.control.db.DB} action, parks the virtual thread instead of occupying a platform thread,
+ * so large numbers of blocking tasks can run concurrently without a large thread pool.
+ */
+public final class VirtualThreads {
+
+  private VirtualThreads() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Provides a parallelization strategy that starts a new virtual thread for every evaluation.
+   *
+   * @return A strategy that starts a new virtual thread for every evaluation.
+   */
+  public static <A> Strategy<A> virtualThreadStrategy() {
+    return Strategy.strategy(p -> {
+      final FutureTask<A> t = new FutureTask<>(Java.<A>P1_Callable().f(p));
+      Thread.startVirtualThread(t);
+      return Strategy.obtain(t);
+    });
+  }
+
+  /**
+   * Provides a parallelization strategy that submits every evaluation to the given virtual thread
+   * executor, such as one created by {@link Executors#newVirtualThreadPerTaskExecutor()}. Shutting down
+   * the executor waits for all of the evaluations it was given.
+   *
+   * @param s A virtual thread executor.
+   * @return A strategy that submits every evaluation to the given executor.
+   */
+  public static <A> Strategy<A> virtualThreadStrategy(final ExecutorService s) {
+    return Strategy.executorStrategy(s);
+  }
+
+  /**
+   * Provides a concurrency module whose promises and actors run on virtual threads.
+   *
+   * @return A concurrency module that starts a new virtual thread for every evaluation.
+   */
+  public static ParModule virtualThreadParModule() {
+    return ParModule.parModule(VirtualThreads.<Unit>virtualThreadStrategy());
+  }
+
+  /**
+   * Provides a concurrency module whose promises and actors run on the given virtual thread executor.
+   *
+   * @param s A virtual thread executor.
+   * @return A concurrency module that submits every evaluation to the given executor.
+   */
+  public static ParModule virtualThreadParModule(final ExecutorService s) {
+    return ParModule.parModule(VirtualThreads.<Unit>virtualThreadStrategy(s));
+  }
+
+}
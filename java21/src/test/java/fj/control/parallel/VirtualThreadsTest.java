@@ -0,0 +1,43 @@
+package fj.control.parallel;
+
+import fj.P;
+import fj.data.List;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class VirtualThreadsTest {
+
+    @Test
+    public void strategyRunsOnVirtualThreads() {
+        assertTrue(VirtualThreads.<Boolean>virtualThreadStrategy().par(P.lazy(() -> Thread.currentThread().isVirtual()))._1());
+    }
+
+    @Test(timeout = 30000)
+    public void manyBlockingPromises() {
+        final ParModule pm = VirtualThreads.virtualThreadParModule();
+        final List<Integer> r = pm.parMap(List.range(0, 10000), i -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                throw new Error(e);
+            }
+            return i;
+        }).claim();
+        assertThat(r, equalTo(List.range(0, 10000)));
+    }
+
+    @Test
+    public void executorParModule() {
+        try (ExecutorService s = Executors.newVirtualThreadPerTaskExecutor()) {
+            final ParModule pm = VirtualThreads.virtualThreadParModule(s);
+            assertThat(pm.parMap(List.range(0, 100), i -> i * 2).claim(), equalTo(List.range(0, 100).map(i -> i * 2)));
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package fj;
+
+import fj.data.List;
+import fj.data.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of rendering a list with {@link Show}, through a string builder and as a character stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ShowBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private final Show<List<Integer>> show = Show.listShow(Show.intShow);
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = List.range(0, size);
+    }
+
+    @Benchmark
+    public String showS() {
+        return show.showS(list);
+    }
+
+    @Benchmark
+    public String charStream() {
+        return Stream.asString(show.show(list));
+    }
+
+}
@@ -0,0 +1,68 @@
+package fj.control;
+
+import fj.P;
+import fj.data.DList;
+import fj.data.List;
+import fj.data.State;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of long chains of {@link Trampoline} steps, directly and through {@link DList} and {@link State}.
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TrampolineBenchmark {
+
+    @Param({"1000000"})
+    public int steps;
+
+    private List<Integer> input;
+
+    @Setup
+    public void setup() {
+        input = List.range(0, steps);
+    }
+
+    @Benchmark
+    public int dListAppend() {
+        DList<Integer> r = DList.nil();
+        for (int i = 0; i < steps; ++i) {
+            r = r.append(DList.single(i));
+        }
+        return r.run().length();
+    }
+
+    @Benchmark
+    public int stateTraverse() {
+        return State.<Integer, Integer, Integer>traverse(input, i -> State.unit(s -> P.p(s + i, s)))
+            .eval(0).length();
+    }
+
+    @Benchmark
+    public int stateFlatMap() {
+        State<Integer, Integer> st = State.constant(0);
+        for (int i = 0; i < steps; ++i) {
+            st = st.flatMap(a -> State.unit(s -> P.p(s + 1, a + s)));
+        }
+        return st.eval(0);
+    }
+
+    @Benchmark
+    public int leftNestedBind() {
+        Trampoline<Integer> t = Trampoline.pure(0);
+        for (int i = 0; i < steps; ++i) {
+            t = t.bind(x -> Trampoline.pure(x + 1));
+        }
+        return t.run();
+    }
+
+}
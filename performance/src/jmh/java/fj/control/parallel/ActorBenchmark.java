@@ -0,0 +1,88 @@
+package fj.control.parallel;
+
+import fj.Unit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of sending messages to {@link Actor}s on a thread pool, each invocation waiting until all of its
+ * messages have been processed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ActorBenchmark {
+
+    @Param({"10000"})
+    public int messages;
+
+    private ExecutorService pool;
+
+    private Strategy<Unit> strategy;
+
+    @Setup
+    public void setup() {
+        pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        strategy = Strategy.executorStrategy(pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long queueActor() throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(messages);
+        final Actor<Integer> a = Actor.queueActor(strategy, i -> done.countDown());
+        for (int i = 0; i < messages; i++) {
+            a.act(i);
+        }
+        done.await();
+        return done.getCount();
+    }
+
+    @Benchmark
+    public long queueActorDisabledMetrics() throws InterruptedException {
+        return queueActor(Metrics.disabled());
+    }
+
+    @Benchmark
+    public long queueActorMetrics() throws InterruptedException {
+        return queueActor(Metrics.metrics());
+    }
+
+    private long queueActor(final Metrics m) throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(messages);
+        final Actor<Integer> a = Actor.queueActor(strategy, m, i -> done.countDown());
+        for (int i = 0; i < messages; i++) {
+            a.act(i);
+        }
+        done.await();
+        return done.getCount();
+    }
+
+    @Benchmark
+    public long actor() throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(messages);
+        final Actor<Integer> a = Actor.actor(strategy, (Integer i) -> done.countDown());
+        for (int i = 0; i < messages; i++) {
+            a.act(i);
+        }
+        done.await();
+        return done.getCount();
+    }
+
+}
@@ -0,0 +1,86 @@
+package fj.control.parallel;
+
+import fj.Monoid;
+import fj.P;
+import fj.Unit;
+import fj.data.List;
+import fj.data.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of a parallel sum with the chunked {@link ParModule#parFoldMap}, with a fold over one promise per
+ * element and with {@link Strategy#parListChunk}, on a thread pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParFoldMapBenchmark {
+
+    static final int CHUNK = 1024;
+
+    @Param({"100000"})
+    public int size;
+
+    private final Monoid<Long> sum = Monoid.longAdditionMonoid;
+
+    private ExecutorService pool;
+
+    private ParModule par;
+
+    private Strategy<List<Long>> strategy;
+
+    private Stream<Integer> stream;
+
+    private List<Integer> list;
+
+    private static long work(final int i) {
+        long x = i;
+        for (int j = 0; j < 50; ++j) {
+            x = x * 6364136223846793005L + 1442695040888963407L;
+        }
+        return x & 0xff;
+    }
+
+    @Setup
+    public void setup() {
+        pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        par = ParModule.parModule(Strategy.<Unit>executorStrategy(pool));
+        strategy = Strategy.executorStrategy(pool);
+        stream = Stream.range(0, size);
+        stream.length();
+        list = stream.toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long chunked() {
+        return par.parFoldMap(stream, ParFoldMapBenchmark::work, sum, CHUNK).claim();
+    }
+
+    @Benchmark
+    public long perElement() {
+        return stream.map(par.promise(ParFoldMapBenchmark::work)).foldLeft1(Promise.liftM2(sum.sum())).claim();
+    }
+
+    @Benchmark
+    public long parListChunk() {
+        return sum.sumLeft(Strategy.parListChunk(strategy, CHUNK, list.map(i -> P.lazy(() -> work(i))))._1());
+    }
+
+}
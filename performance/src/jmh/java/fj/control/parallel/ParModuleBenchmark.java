@@ -0,0 +1,64 @@
+package fj.control.parallel;
+
+import fj.Monoid;
+import fj.Unit;
+import fj.data.List;
+import fj.data.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the parallel operations of {@link ParModule} on a thread pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParModuleBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    private ExecutorService pool;
+
+    private ParModule par;
+
+    private List<Integer> list;
+
+    private Stream<Integer> stream;
+
+    @Setup
+    public void setup() {
+        pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        par = ParModule.parModule(Strategy.<Unit>executorStrategy(pool));
+        list = List.range(0, size);
+        stream = Stream.range(0, size);
+        stream.length();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Integer> parMap() {
+        return par.parMap(list, i -> i * 31 % 17).claim();
+    }
+
+    @Benchmark
+    public long parFoldMap() {
+        return par.parFoldMap(stream, i -> (long) i * i, Monoid.longAdditionMonoid).claim();
+    }
+
+}
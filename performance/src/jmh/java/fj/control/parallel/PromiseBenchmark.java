@@ -0,0 +1,72 @@
+package fj.control.parallel;
+
+import fj.P;
+import fj.Unit;
+import fj.data.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of creating, chaining and sequencing {@link Promise}s on a thread pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PromiseBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private ExecutorService pool;
+
+    private Strategy<Unit> strategy;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        strategy = Strategy.executorStrategy(pool);
+        list = List.range(0, size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int fmapChain() {
+        Promise<Integer> p = Promise.promise(strategy, P.p(0));
+        for (int i = 0; i < size; i++) {
+            p = p.fmap(n -> n + 1);
+        }
+        return p.claim();
+    }
+
+    @Benchmark
+    public int bindChain() {
+        Promise<Integer> p = Promise.promise(strategy, P.p(0));
+        for (int i = 0; i < size; i++) {
+            p = p.bind(n -> Promise.promise(strategy, P.p(n + 1)));
+        }
+        return p.claim();
+    }
+
+    @Benchmark
+    public List<Integer> sequence() {
+        return Promise.sequence(strategy, list.map(i -> Promise.promise(strategy, P.p(i)))).claim();
+    }
+
+}
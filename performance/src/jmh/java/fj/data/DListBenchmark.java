@@ -0,0 +1,61 @@
+package fj.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of building lists by repeated appends with {@link DList}, {@link Seq} and {@link List}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DListBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private List<Integer> chunk;
+
+    @Setup
+    public void setup() {
+        chunk = List.range(0, 10);
+    }
+
+    @Benchmark
+    public List<Integer> dList() {
+        final DList<Integer> c = DList.listDList(chunk);
+        DList<Integer> d = DList.nil();
+        for (int i = 0; i < size; i++) {
+            d = d.append(c);
+        }
+        return d.run();
+    }
+
+    @Benchmark
+    public List<Integer> seq() {
+        final Seq<Integer> c = Seq.iterableSeq(chunk);
+        Seq<Integer> s = Seq.empty();
+        for (int i = 0; i < size; i++) {
+            s = s.append(c);
+        }
+        return s.toList();
+    }
+
+    @Benchmark
+    public List<Integer> list() {
+        List<Integer> l = List.nil();
+        for (int i = 0; i < size; i++) {
+            l = l.append(chunk);
+        }
+        return l;
+    }
+
+}
@@ -0,0 +1,52 @@
+package fj.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the mutable {@link HashMap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HashMapBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private HashMap<Integer, String> map;
+
+    @Setup
+    public void setup() {
+        map = set();
+    }
+
+    @Benchmark
+    public HashMap<Integer, String> set() {
+        final HashMap<Integer, String> m = HashMap.hashMap();
+        for (int i = 0; i < size; i++) {
+            m.set(i, "v");
+        }
+        return m;
+    }
+
+    @Benchmark
+    public int get() {
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (map.get(i).isSome()) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+}
@@ -0,0 +1,70 @@
+package fj.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of splitting a {@link LazyString} into lines and words, strict and read in blocks as by
+ * {@link IOFunctions#getContents()}, and of indexing its characters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LazyStringBenchmark {
+
+    @Param({"20000"})
+    public int lines;
+
+    private LazyString text;
+
+    private String[] blocks;
+
+    @Setup
+    public void setup() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; ++i) {
+            sb.append("line ").append(i).append(" of some lazily processed text\n");
+        }
+        text = LazyString.str(sb.toString());
+        blocks = new String[(sb.length() + 4095) / 4096];
+        for (int i = 0; i < blocks.length; ++i) {
+            blocks[i] = sb.substring(i * 4096, Math.min(sb.length(), (i + 1) * 4096));
+        }
+    }
+
+    private static int countWords(final LazyString s) {
+        int n = 0;
+        for (LazyString line : s.lines()) {
+            n += line.words().length();
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int linesAndWords() {
+        return countWords(text);
+    }
+
+    @Benchmark
+    public int linesAndWordsStreamed() {
+        return countWords(LazyString.fromStrings(Stream.arrayStream(blocks)));
+    }
+
+    @Benchmark
+    public int charAt() {
+        int n = 0;
+        for (int i = 0; i < text.length(); i += 997) {
+            n += text.charAt(i);
+        }
+        return n;
+    }
+
+}
@@ -0,0 +1,101 @@
+package fj.data;
+
+import fj.Ord;
+import fj.P2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the core operations on {@link List}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ListBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private List<Integer> list;
+
+    private List<Integer> shuffled;
+
+    @Setup
+    public void setup() {
+        list = List.range(0, size);
+        shuffled = list.map(i -> (i * 7919) % size);
+    }
+
+    @Benchmark
+    public int length() {
+        return list.length();
+    }
+
+    @Benchmark
+    public int iterator() {
+        int n = 0;
+        for (int i : list) {
+            n += i;
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int foldLeft() {
+        return list.foldLeft((acc, i) -> acc + i, 0);
+    }
+
+    @Benchmark
+    public int foldRight() {
+        return list.foldRight((i, acc) -> i + acc, 0);
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return list.map(i -> i + 1);
+    }
+
+    @Benchmark
+    public List<Integer> filter() {
+        return list.filter(i -> i % 2 == 0);
+    }
+
+    @Benchmark
+    public List<Integer> append() {
+        return list.append(list);
+    }
+
+    @Benchmark
+    public List<Integer> take() {
+        return list.take(size / 2);
+    }
+
+    @Benchmark
+    public List<Integer> takeAll() {
+        return list.take(size);
+    }
+
+    @Benchmark
+    public List<Integer> reverse() {
+        return list.reverse();
+    }
+
+    @Benchmark
+    public List<P2<Integer, Integer>> zip() {
+        return list.zip(list);
+    }
+
+    @Benchmark
+    public List<Integer> sort() {
+        return shuffled.sort(Ord.intOrd);
+    }
+
+}
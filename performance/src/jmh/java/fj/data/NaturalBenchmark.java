@@ -0,0 +1,74 @@
+package fj.data;
+
+import fj.Ord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the arithmetic and ordering of {@link Natural} numbers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NaturalBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private final Natural seven = Natural.natural(7).some();
+
+    private Natural[] ns;
+
+    @Setup
+    public void setup() {
+        ns = new Natural[size];
+        for (int i = 0; i < size; ++i) {
+            ns[i] = Natural.natural(i).some();
+        }
+    }
+
+    @Benchmark
+    public Natural add() {
+        Natural r = Natural.ZERO;
+        for (Natural n : ns) {
+            r = r.add(n);
+        }
+        return r;
+    }
+
+    @Benchmark
+    public Natural multiply() {
+        Natural r = Natural.ZERO;
+        for (Natural n : ns) {
+            r = r.add(n.multiply(n));
+        }
+        return r;
+    }
+
+    @Benchmark
+    public Natural divideAndMod() {
+        Natural r = Natural.ZERO;
+        for (Natural n : ns) {
+            r = r.add(n.divide(seven)).add(n.mod(seven));
+        }
+        return r;
+    }
+
+    @Benchmark
+    public Natural succAndMax() {
+        Natural r = Natural.ZERO;
+        for (Natural n : ns) {
+            r = Ord.naturalOrd.max(r, n.succ());
+        }
+        return r;
+    }
+
+}
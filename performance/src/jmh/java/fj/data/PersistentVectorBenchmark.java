@@ -0,0 +1,127 @@
+package fj.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link PersistentVector} against {@link Seq} for building, indexing, updating, appending and
+ * splitting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PersistentVectorBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private PersistentVector<Integer> vector;
+
+    private Seq<Integer> seq;
+
+    @Setup
+    public void setup() {
+        vector = PersistentVector.iterableVector(List.range(0, size));
+        seq = Seq.iterableSeq(List.range(0, size));
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vectorSnoc() {
+        PersistentVector<Integer> v = PersistentVector.empty();
+        for (int i = 0; i < size; i++) {
+            v = v.snoc(i);
+        }
+        return v;
+    }
+
+    @Benchmark
+    public Seq<Integer> seqSnoc() {
+        Seq<Integer> s = Seq.empty();
+        for (int i = 0; i < size; i++) {
+            s = s.snoc(i);
+        }
+        return s;
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vectorBuilder() {
+        final PersistentVector.Builder<Integer> b = new PersistentVector.Builder<>();
+        for (int i = 0; i < size; i++) {
+            b.snoc(i);
+        }
+        return b.build();
+    }
+
+    @Benchmark
+    public int vectorIndex() {
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            n += vector.index(i);
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int seqIndex() {
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            n += seq.index(i);
+        }
+        return n;
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vectorUpdate() {
+        PersistentVector<Integer> v = vector;
+        for (int i = 0; i < size; i += 7) {
+            v = v.update(i, -i);
+        }
+        return v;
+    }
+
+    @Benchmark
+    public Seq<Integer> seqUpdate() {
+        Seq<Integer> s = seq;
+        for (int i = 0; i < size; i += 7) {
+            s = s.update(i, -i);
+        }
+        return s;
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vectorSplitAppend() {
+        return vector.drop(size / 3).append(vector.take(size / 3));
+    }
+
+    @Benchmark
+    public Seq<Integer> seqSplitAppend() {
+        return seq.drop(size / 3).append(seq.take(size / 3));
+    }
+
+    @Benchmark
+    public int vectorIterate() {
+        int n = 0;
+        for (int i : vector) {
+            n += i;
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int seqIterate() {
+        int n = 0;
+        for (int i : seq) {
+            n += i;
+        }
+        return n;
+    }
+
+}
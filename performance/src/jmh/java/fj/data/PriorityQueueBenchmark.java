@@ -0,0 +1,104 @@
+package fj.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the finger tree backed {@link PriorityQueue} against the {@link PairingHeap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PriorityQueueBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private int[] keys;
+
+    private PriorityQueue<Integer, Integer> queue;
+
+    private PairingHeap<Integer, Integer> heap;
+
+    @Setup
+    public void setup() {
+        keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (i * 7919) % size;
+        }
+        queue = enqueue();
+        heap = heapEnqueue();
+    }
+
+    @Benchmark
+    public PriorityQueue<Integer, Integer> enqueue() {
+        PriorityQueue<Integer, Integer> q = PriorityQueue.emptyInt();
+        for (int k : keys) {
+            q = q.enqueue(k, k);
+        }
+        return q;
+    }
+
+    @Benchmark
+    public int dequeueAll() {
+        int n = 0;
+        for (PriorityQueue<Integer, Integer> q = queue; !q.isEmpty(); q = q.dequeue()) {
+            n += q.top().some()._2();
+        }
+        return n;
+    }
+
+    @Benchmark
+    public PairingHeap<Integer, Integer> heapEnqueue() {
+        PairingHeap<Integer, Integer> q = PairingHeap.emptyInt();
+        for (int k : keys) {
+            q = q.enqueue(k, k);
+        }
+        return q;
+    }
+
+    @Benchmark
+    public int heapDequeueAll() {
+        int n = 0;
+        for (PairingHeap<Integer, Integer> q = heap; !q.isEmpty(); q = q.dequeue()) {
+            n += q.top().some()._2();
+        }
+        return n;
+    }
+
+    /**
+     * Alternately enqueues a node and dequeues the top, as a scheduler of timed tasks does.
+     */
+    @Benchmark
+    public int schedule() {
+        PriorityQueue<Integer, Integer> q = queue;
+        int n = 0;
+        for (int k : keys) {
+            q = q.enqueue(k, k);
+            n += q.top().some()._2();
+            q = q.dequeue();
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int heapSchedule() {
+        PairingHeap<Integer, Integer> q = heap;
+        int n = 0;
+        for (int k : keys) {
+            q = q.enqueue(k, k);
+            n += q.top().some()._2();
+            q = q.dequeue();
+        }
+        return n;
+    }
+
+}
@@ -0,0 +1,69 @@
+package fj.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the finger tree backed {@link Seq}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SeqBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private Seq<Integer> seq;
+
+    @Setup
+    public void setup() {
+        seq = Seq.iterableSeq(List.range(0, size));
+    }
+
+    @Benchmark
+    public Seq<Integer> snoc() {
+        Seq<Integer> s = Seq.empty();
+        for (int i = 0; i < size; i++) {
+            s = s.snoc(i);
+        }
+        return s;
+    }
+
+    @Benchmark
+    public Seq<Integer> cons() {
+        Seq<Integer> s = Seq.empty();
+        for (int i = 0; i < size; i++) {
+            s = s.cons(i);
+        }
+        return s;
+    }
+
+    @Benchmark
+    public int index() {
+        int n = 0;
+        for (int i = 0; i < size; i += 7) {
+            n += seq.index(i);
+        }
+        return n;
+    }
+
+    @Benchmark
+    public Seq<Integer> append() {
+        return seq.append(seq);
+    }
+
+    @Benchmark
+    public List<Integer> toList() {
+        return seq.toList();
+    }
+
+}
@@ -0,0 +1,77 @@
+package fj.data;
+
+import fj.Ord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the red-black tree backed {@link Set}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SetBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private int[] keys;
+
+    private Set<Integer> set;
+
+    private Set<Integer> odds;
+
+    @Setup
+    public void setup() {
+        keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (i * 7919) % size;
+        }
+        set = Set.iterableSet(Ord.intOrd, List.range(0, size));
+        odds = set.filter(i -> i % 2 == 1);
+    }
+
+    @Benchmark
+    public Set<Integer> insert() {
+        Set<Integer> s = Set.empty(Ord.intOrd);
+        for (int k : keys) {
+            s = s.insert(k);
+        }
+        return s;
+    }
+
+    @Benchmark
+    public Set<Integer> fromSorted() {
+        return Set.fromSortedArray(Ord.intOrd, Array.range(0, size));
+    }
+
+    @Benchmark
+    public int member() {
+        int n = 0;
+        for (int k : keys) {
+            if (set.member(k)) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Benchmark
+    public Set<Integer> union() {
+        return set.union(odds);
+    }
+
+    @Benchmark
+    public boolean equalsCopy() {
+        return set.equals(set.insert(0));
+    }
+
+}
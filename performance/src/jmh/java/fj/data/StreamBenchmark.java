@@ -0,0 +1,78 @@
+package fj.data;
+
+import fj.Ord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of building and consuming lazy {@link Stream}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StreamBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private Stream<Integer> forced;
+    private Stream<Integer> shuffled;
+
+    @Setup
+    public void setup() {
+        forced = Stream.range(0, size);
+        forced.length();
+        final Random random = new Random(42);
+        final Integer[] as = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            as[i] = random.nextInt();
+        }
+        shuffled = Stream.arrayStream(as);
+        shuffled.length();
+    }
+
+    @Benchmark
+    public int rangeMapFilterFold() {
+        return Stream.range(0, size).map(i -> i * 3).filter(i -> i % 2 == 0).foldLeft((acc, i) -> acc + i, 0);
+    }
+
+    @Benchmark
+    public List<Integer> toList() {
+        return forced.toList();
+    }
+
+    @Benchmark
+    public int appendAndTake() {
+        return forced.append(forced).take(size + size / 2).length();
+    }
+
+    @Benchmark
+    public int zipIndex() {
+        return forced.zipIndex().length();
+    }
+
+    @Benchmark
+    public Integer reverse() {
+        return forced.reverse().head();
+    }
+
+    @Benchmark
+    public int foldRight1() {
+        return forced.foldRight1((i, acc) -> acc + i, 0);
+    }
+
+    @Benchmark
+    public int sort() {
+        return shuffled.sort(Ord.intOrd).foldLeft((acc, i) -> acc ^ i, 0);
+    }
+
+}
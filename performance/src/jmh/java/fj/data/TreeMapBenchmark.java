@@ -0,0 +1,74 @@
+package fj.data;
+
+import fj.Ord;
+import fj.P2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the immutable {@link TreeMap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TreeMapBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private int[] keys;
+
+    private TreeMap<Integer, String> map;
+
+    @Setup
+    public void setup() {
+        keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (i * 7919) % size;
+        }
+        map = set();
+    }
+
+    @Benchmark
+    public TreeMap<Integer, String> set() {
+        TreeMap<Integer, String> m = TreeMap.empty(Ord.intOrd);
+        for (int k : keys) {
+            m = m.set(k, "v");
+        }
+        return m;
+    }
+
+    @Benchmark
+    public int get() {
+        int n = 0;
+        for (int k : keys) {
+            if (map.get(k).isSome()) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Benchmark
+    public TreeMap<Integer, String> update() {
+        TreeMap<Integer, String> m = map;
+        for (int i = 0; i < size; i += 7) {
+            m = m.update(keys[i], v -> v + "!", "new");
+        }
+        return m;
+    }
+
+    @Benchmark
+    public List<P2<Integer, String>> toList() {
+        return map.toList();
+    }
+
+}
@@ -0,0 +1,54 @@
+package fj.data.hamt;
+
+import fj.Equal;
+import fj.Hash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the immutable {@link HashArrayMappedTrie}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HashArrayMappedTrieBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private HashArrayMappedTrie<Integer, String> trie;
+
+    @Setup
+    public void setup() {
+        trie = set();
+    }
+
+    @Benchmark
+    public HashArrayMappedTrie<Integer, String> set() {
+        HashArrayMappedTrie<Integer, String> t = HashArrayMappedTrie.empty(Equal.intEqual, Hash.intHash);
+        for (int i = 0; i < size; i++) {
+            t = t.set(i, "v");
+        }
+        return t;
+    }
+
+    @Benchmark
+    public int find() {
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (trie.find(i).isSome()) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+}
@@ -0,0 +1,78 @@
+package fj.data.optic;
+
+import fj.Unit;
+import fj.control.parallel.Strategy;
+import fj.data.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of updating every element of a list through {@link List.Optic#traversal()} with
+ * {@link Traversal#parModify} on a thread pool and on the sequential strategy, against {@link List#map}.
+ * {@link Traversal#modify} is not measured, since it overflows the stack on lists of this size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TraversalBenchmark {
+
+    static final int CHUNK = 4096;
+
+    @Param({"1000000"})
+    public int size;
+
+    private final Traversal<List<Integer>, Integer> traversal = List.Optic.traversal();
+
+    private ExecutorService pool;
+
+    private Strategy<Unit> strategy;
+
+    private List<Integer> list;
+
+    private static Integer work(final Integer i) {
+        long x = i;
+        for (int j = 0; j < 500; ++j) {
+            x = x * 6364136223846793005L + 1442695040888963407L;
+        }
+        return (int) (x & 0xff);
+    }
+
+    @Setup
+    public void setup() {
+        pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        strategy = Strategy.executorStrategy(pool);
+        list = List.range(0, size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Integer> parModify() {
+        return traversal.parModify(TraversalBenchmark::work, strategy, CHUNK).f(list);
+    }
+
+    @Benchmark
+    public List<Integer> parModifySequential() {
+        return traversal.parModify(TraversalBenchmark::work, Strategy.seqStrategy(), CHUNK).f(list);
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return list.map(TraversalBenchmark::work);
+    }
+
+}
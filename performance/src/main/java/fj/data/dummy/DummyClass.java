@@ -1,8 +0,0 @@
-package fj.data.dummy;
-
-/**
- * Created by MarkPerry on 5 Feb 16.
- */
-public class DummyClass {
-
-}
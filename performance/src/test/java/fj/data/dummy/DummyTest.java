@@ -1,17 +0,0 @@
-package fj.data.dummy;
-
-import org.junit.Ignore;
-import org.junit.Test;
-
-/**
- * Created by MarkPerry on 5 Feb 16.
- */
-public class DummyTest {
-
-    @Test
-    @Ignore
-    public void test1() {
-
-    }
-
-}
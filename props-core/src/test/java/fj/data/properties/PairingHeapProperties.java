@@ -0,0 +1,97 @@
+package fj.data.properties;
+
+import fj.Ord;
+import fj.P;
+import fj.P2;
+import fj.data.List;
+import fj.data.Option;
+import fj.data.PairingHeap;
+import fj.data.PriorityQueue;
+import fj.test.Gen;
+import fj.test.Property;
+import fj.test.reflect.CheckParams;
+import fj.test.runner.PropertyTestRunner;
+import org.junit.runner.RunWith;
+
+import static fj.data.Option.some;
+import static fj.data.PairingHeap.emptyInt;
+import static fj.test.Arbitrary.arbAlphaNumString;
+import static fj.test.Arbitrary.arbInteger;
+import static fj.test.Arbitrary.arbList;
+import static fj.test.Arbitrary.arbP2;
+import static fj.test.Property.prop;
+import static fj.test.Property.property;
+
+@RunWith(PropertyTestRunner.class)
+@CheckParams(maxSize = 100)
+public class PairingHeapProperties {
+
+    public static Gen<List<P2<Integer, String>>> arbNodes = arbList(arbP2(arbInteger, arbAlphaNumString));
+
+    Property empty() {
+        PairingHeap<Integer, Object> pq = emptyInt();
+        return prop(pq.isEmpty() && pq.top().isNone() && pq.dequeue().isEmpty());
+    }
+
+    /**
+     * The heap returns its nodes in the same order as the finger tree backed priority queue, highest priority
+     * first and FIFO within a priority.
+     */
+    Property sameOrderAsPriorityQueue() {
+        return property(arbNodes, l -> {
+            List<P2<Integer, String>> expected = PriorityQueue.<String>emptyInt().enqueue(l).toList();
+            PairingHeap<Integer, String> pq = PairingHeap.<String>emptyInt().enqueue(l);
+            return prop(pq.toList().equals(expected) && pq.toStream().toList().equals(expected) &&
+                pq.length() == l.length());
+        });
+    }
+
+    /**
+     * Adding a value with the highest priority makes it the top item.
+     */
+    Property addTop() {
+        return property(arbNodes, arbInteger, arbAlphaNumString, (l, i, s) -> {
+            PairingHeap<Integer, String> q = PairingHeap.<String>emptyInt().enqueue(l);
+            Option<P2<Integer, String>> actual = q.enqueue(i, s).top();
+            return prop(q.isLessThan(Ord.intOrd, i) ? actual.equals(some(P.p(i, s))) : actual.equals(q.top()));
+        });
+    }
+
+    /**
+     * Melding two queues returns the nodes of both, sorted by priority.
+     */
+    Property meld() {
+        return property(arbNodes, arbNodes, (l1, l2) -> {
+            PairingHeap<Integer, String> q = PairingHeap.<String>emptyInt().enqueue(l1)
+                .meld(PairingHeap.<String>emptyInt().enqueue(l2));
+            List<Integer> expected = l1.append(l2).map(P2.__1()).sort(Ord.intOrd.reverse());
+            return prop(q.toList().map(P2.__1()).equals(expected) && q.length() == expected.length());
+        });
+    }
+
+    /**
+     * Mapping and filtering keep the order of the remaining nodes.
+     */
+    Property mapAndFilter() {
+        return property(arbNodes, l -> {
+            PairingHeap<Integer, String> q = PairingHeap.<String>emptyInt().enqueue(l);
+            List<P2<Integer, String>> expected = q.toList();
+            return prop(q.map(s -> s + "!").toList().equals(expected.map(P2.map2_(s -> s + "!"))) &&
+                q.filterKeys(i -> i % 2 == 0).toList().equals(expected.filter(p -> p._1() % 2 == 0)) &&
+                q.filterValues(s -> s.length() > 2).toList().equals(expected.filter(p -> p._2().length() > 2)));
+        });
+    }
+
+    Property contains() {
+        return property(arbNodes, arbInteger, (l, i) -> {
+            PairingHeap<Integer, String> q = PairingHeap.<String>emptyInt().enqueue(l);
+            return prop(q.contains(i) == l.exists(p -> p._1().equals(i)));
+        });
+    }
+
+    Property topN() {
+        return property(arbNodes, l -> prop(PairingHeap.<String>emptyInt().enqueue(l).topN()
+            .equals(PriorityQueue.<String>emptyInt().enqueue(l).topN())));
+    }
+
+}